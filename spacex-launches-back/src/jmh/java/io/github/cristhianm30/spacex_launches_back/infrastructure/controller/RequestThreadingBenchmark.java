@@ -0,0 +1,72 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.LaunchTableSeeder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution (p50/p99 in the SampleTime report) of {@code /launches/{id}} and {@code /launches/stats}
+ * under concurrent load, against two running instances: one with {@code LAUNCHES_VIRTUAL_THREADS_ENABLED=false}
+ * on port 8081 and one with {@code true} on port 8082, both with the cache disabled so requests block on DynamoDB.
+ * Concurrency is the number of JMH threads (256 by default, {@code -PjmhThreads=N} to change it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+public class RequestThreadingBenchmark {
+
+    @Param({"http://localhost:8081/api", "http://localhost:8082/api"})
+    private String baseUrl;
+
+    @Param({"500"})
+    private int launches;
+
+    private HttpClient httpClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        try (DynamoDbClient client = LaunchTableSeeder.localClient()) {
+            LaunchTableSeeder.seed(client, launches);
+        }
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+    }
+
+    @Benchmark
+    public int launchById() throws IOException, InterruptedException {
+        return get("/launches/" + LaunchTableSeeder.ID_PREFIX + ThreadLocalRandom.current().nextInt(launches));
+    }
+
+    @Benchmark
+    public int stats() throws IOException, InterruptedException {
+        return get("/launches/stats");
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchSummaryResponse;
+import io.github.cristhianm30.spacex_launches_back.application.mapper.LaunchMapperDtoImpl;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.entity.LaunchEntity;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Time and allocation of turning one page of scanned attribute maps into summary responses: through
+ * {@link LaunchEntity}, the entity mapper and a stream re-collect, versus {@link LaunchItemSchema} and the
+ * list mapper. Runs without DynamoDB; allocation per operation comes from the GC profiler:
+ * {@code ./gradlew jmh -PjmhInclude=LaunchListMappingBenchmark -PjmhProfilers=gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LaunchListMappingBenchmark {
+
+    @Param({"SUMMARY", "ALL"})
+    private String fields;
+
+    @Param({"100"})
+    private int launches;
+
+    private final LaunchEntityMapperImpl entityMapper = new LaunchEntityMapperImpl();
+    private final LaunchMapperDtoImpl dtoMapper = new LaunchMapperDtoImpl();
+    private final TableSchema<LaunchEntity> entitySchema = TableSchema.fromBean(LaunchEntity.class);
+    private final LaunchItemSchema itemSchema = new LaunchItemSchema(entityMapper);
+
+    private List<Map<String, AttributeValue>> items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Set<LaunchField> projection = "SUMMARY".equals(fields) ? LaunchField.SUMMARY : LaunchField.ALL;
+        List<String> attributes = projection.stream().map(LaunchProjection::attributeOf).toList();
+        items = new ArrayList<>(launches);
+        for (int i = 0; i < launches; i++) {
+            items.add(entitySchema.itemToMap(LaunchTableSeeder.launch(i), attributes));
+        }
+    }
+
+    @Benchmark
+    public List<LaunchSummaryResponse> throughEntity() {
+        List<LaunchModel> page = items.stream()
+                .map(entitySchema::mapToItem)
+                .map(entityMapper::toDomain)
+                .toList();
+        return page.stream().map(dtoMapper::toSummaryResponse).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<LaunchSummaryResponse> fused() {
+        List<LaunchModel> page = items.stream()
+                .map(itemSchema::mapToItem)
+                .toList();
+        return dtoMapper.toSummaryResponseList(page);
+    }
+}
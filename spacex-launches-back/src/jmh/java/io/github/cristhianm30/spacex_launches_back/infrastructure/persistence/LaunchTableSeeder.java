@@ -0,0 +1,87 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.entity.LaunchEntity;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Creates and fills the launches table in DynamoDB Local with {@code bench-<n>} launches for the benchmarks.
+ */
+public final class LaunchTableSeeder {
+
+    public static final String ENDPOINT_PROPERTY = "dynamodb.endpoint";
+    public static final String DEFAULT_ENDPOINT = "http://localhost:8000";
+    public static final String LOCAL_CREDENTIAL = "local";
+    public static final String ID_PREFIX = "bench-";
+
+    private static final int BATCH_SIZE = 25;
+
+    private LaunchTableSeeder() {
+    }
+
+    public static URI endpoint() {
+        return URI.create(System.getProperty(ENDPOINT_PROPERTY, DEFAULT_ENDPOINT));
+    }
+
+    public static DynamoDbClient localClient() {
+        return DynamoDbClient.builder()
+                .endpointOverride(endpoint())
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(LOCAL_CREDENTIAL, LOCAL_CREDENTIAL)))
+                .build();
+    }
+
+    public static void seed(DynamoDbClient client, int launches) {
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+        DynamoDbTable<LaunchEntity> table = enhancedClient.table(DatabaseConstants.SPACEX_LAUNCHES_TABLE, TableSchema.fromBean(LaunchEntity.class));
+        try {
+            int count = client.scan(request -> request.tableName(DatabaseConstants.SPACEX_LAUNCHES_TABLE).select(Select.COUNT)).count();
+            if (count >= launches) {
+                return;
+            }
+        } catch (ResourceNotFoundException e) {
+            table.createTable();
+        }
+
+        for (int from = 0; from < launches; from += BATCH_SIZE) {
+            WriteBatch.Builder<LaunchEntity> batch = WriteBatch.builder(LaunchEntity.class).mappedTableResource(table);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, launches); i++) {
+                batch.addPutItem(launch(i));
+            }
+            enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder().writeBatches(batch.build()).build());
+        }
+    }
+
+    public static LaunchEntity launch(int i) {
+        LaunchEntity entity = new LaunchEntity();
+        entity.setLaunchId(ID_PREFIX + i);
+        entity.setMissionName("Benchmark Mission " + i);
+        entity.setFlightNumber(i);
+        entity.setLaunchDateUtc(String.format("20%02d-%02d-%02dT12:00:00.000Z", 6 + i % 20, 1 + i % 12, 1 + i % 28));
+        entity.setSuccess(i % 10 != 0);
+        entity.setDetails("Benchmark launch details ".repeat(20));
+        entity.setRocketId("rocket-" + i % 4);
+        entity.setLaunchpadId("launchpad-" + i % 6);
+        entity.setPayloads(List.of("payload-" + i, "payload-" + (i + 1)));
+        entity.setPatchSmallLink("https://images2.imgbox.com/small/" + i + ".png");
+        entity.setPatchLargeLink("https://images2.imgbox.com/large/" + i + ".png");
+        entity.setWebcastLink("https://www.youtube.com/watch?v=" + i);
+        entity.setArticleLink("https://www.space.com/article-" + i);
+        entity.setWikipediaLink("https://en.wikipedia.org/wiki/Launch_" + i);
+        entity.setStatus(i % 10 == 0 ? "failed" : "success");
+        return entity;
+    }
+}
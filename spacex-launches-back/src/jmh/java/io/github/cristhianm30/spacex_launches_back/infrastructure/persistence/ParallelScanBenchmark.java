@@ -0,0 +1,59 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchDynamoDbProperties;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time of {@link DynamoDbLaunchRepository#findAll()} for 1, 2, 4 and 8 scan segments.
+ * Needs a running DynamoDB Local: {@code ./gradlew jmh -PjmhInclude=ParallelScanBenchmark -PdynamodbEndpoint=http://localhost:8000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelScanBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int segments;
+
+    @Param({"5000"})
+    private int launches;
+
+    private DynamoDbClient client;
+    private DynamoDbLaunchRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        client = LaunchTableSeeder.localClient();
+        LaunchTableSeeder.seed(client, launches);
+
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+        repository = new DynamoDbLaunchRepository(enhancedClient, new LaunchEntityMapperImpl(),
+                new LaunchDynamoDbProperties(segments, 0, 0, null));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public List<LaunchModel> findAll() {
+        return repository.findAll();
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.cristhianm30.spacex_launches_back.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estadísticas de lanzamientos de un mes o un año")
+public class LaunchPeriodResponse {
+    @Schema(description = "Periodo en UTC: yyyy-MM para meses, yyyy para años", example = "2020-05")
+    private String period;
+
+    @Schema(description = "Número total de lanzamientos en el periodo", example = "4")
+    private long totalLaunches;
+
+    @Schema(description = "Número de lanzamientos exitosos", example = "3")
+    private long successfulLaunches;
+
+    @Schema(description = "Número de lanzamientos fallidos", example = "1")
+    private long failedLaunches;
+
+    @Schema(description = "Número de lanzamientos próximos", example = "0")
+    private long upcomingLaunches;
+
+    @Schema(description = "Tasa de éxito en porcentaje sobre los lanzamientos completados; null si no hubo ninguno", example = "75.0")
+    private Double successRate;
+
+    @Schema(description = "Tasa de éxito en porcentaje sobre los lanzamientos completados en la ventana de meses que termina en este periodo; null en la serie anual o si no hubo ninguno", example = "92.3")
+    private Double rollingSuccessRate;
+}
@@ -1,5 +1,7 @@
 package io.github.cristhianm30.spacex_launches_back.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +14,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(EndpointConstants.FIELDS_FILTER)
 @Schema(description = "Respuesta detallada de un lanzamiento SpaceX")
 public class LaunchResponse {
     @Schema(description = "ID único del lanzamiento", example = "5eb87cd9ffd86e000604b32a")
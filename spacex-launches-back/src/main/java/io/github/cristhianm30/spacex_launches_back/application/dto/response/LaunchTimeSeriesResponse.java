@@ -0,0 +1,25 @@
+package io.github.cristhianm30.spacex_launches_back.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Serie temporal de lanzamientos por mes y por año")
+public class LaunchTimeSeriesResponse {
+    @Schema(description = "Meses de la ventana móvil usada en rollingSuccessRate", example = "12")
+    private int window;
+
+    @Schema(description = "Estadísticas por mes, del más antiguo al más reciente, sin huecos")
+    private List<LaunchPeriodResponse> monthly;
+
+    @Schema(description = "Estadísticas por año, del más antiguo al más reciente, sin huecos")
+    private List<LaunchPeriodResponse> yearly;
+}
@@ -0,0 +1,28 @@
+package io.github.cristhianm30.spacex_launches_back.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cambios en los lanzamientos enviados por el flujo de eventos")
+public class LaunchUpdateResponse {
+    @Schema(description = "Versión de los datos tras aplicar el cambio", example = "52916c484a0f37dd")
+    private String version;
+
+    @Schema(description = "Lanzamientos nuevos o modificados")
+    private List<LaunchSummaryResponse> upserted;
+
+    @Schema(description = "IDs de los lanzamientos eliminados")
+    private List<String> removed;
+
+    @Schema(description = "Estadísticas actualizadas")
+    private StatsDataResponse stats;
+}
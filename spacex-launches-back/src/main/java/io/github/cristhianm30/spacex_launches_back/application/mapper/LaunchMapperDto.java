@@ -1,9 +1,17 @@
 package io.github.cristhianm30.spacex_launches_back.application.mapper;
 
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchPeriodResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchSummaryResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchTimeSeriesResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchUpdateResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.StatsDataResponse;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 import java.util.List;
@@ -21,4 +29,18 @@ public interface LaunchMapperDto {
     LaunchSummaryResponse toSummaryResponse(LaunchModel domain);
     
     List<LaunchSummaryResponse> toSummaryResponseList(List<LaunchModel> domainList);
+
+    @Mapping(target = "successRate", expression = "java(stats.successRate())")
+    StatsDataResponse toStatsResponse(LaunchStats stats);
+
+    LaunchUpdateResponse toUpdateResponse(LaunchUpdate update);
+
+    @Mapping(target = "totalLaunches", source = "stats.totalLaunches")
+    @Mapping(target = "successfulLaunches", source = "stats.successfulLaunches")
+    @Mapping(target = "failedLaunches", source = "stats.failedLaunches")
+    @Mapping(target = "upcomingLaunches", source = "stats.upcomingLaunches")
+    @Mapping(target = "successRate", expression = "java(period.successRate())")
+    LaunchPeriodResponse toPeriodResponse(LaunchTimeSeries.Period period);
+
+    LaunchTimeSeriesResponse toTimeSeriesResponse(LaunchTimeSeries timeSeries);
 }
\ No newline at end of file
@@ -2,19 +2,52 @@ package io.github.cristhianm30.spacex_launches_back.application.service.api;
 
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchSummaryResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchTimeSeriesResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchUpdateResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.StatsDataResponse;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
 
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface LaunchService {
     Optional<LaunchResponse> getLaunchById(String id);
+    List<LaunchResponse> getLaunchesByIds(List<String> ids);
     List<LaunchSummaryResponse> getAllLaunches();
+    Stream<LaunchSummaryResponse> getAllLaunchesLazily();
+    void streamAllLaunches(Consumer<LaunchSummaryResponse> consumer);
     Page<LaunchSummaryResponse> getLaunches(String status, Pageable pageable);
+    Page<LaunchSummaryResponse> getLaunches(String status, Pageable pageable, Set<LaunchField> fields);
     List<LaunchSummaryResponse> getLaunchesByStatus(String status);
     List<LaunchSummaryResponse> getLaunchesByRocket(String rocketId);
+    List<LaunchSummaryResponse> searchLaunches(LaunchQuery query, Set<LaunchField> fields);
+    List<LaunchSummaryResponse> searchLaunchesByText(LaunchTextQuery query, Set<LaunchField> fields);
+    List<LaunchSummaryResponse> getLaunchesBetween(Instant from, Instant to, Set<LaunchField> fields);
+    List<LaunchSummaryResponse> getUpcomingLaunches(Integer limit, Set<LaunchField> fields);
+    List<LaunchSummaryResponse> getLatestLaunches(Integer limit, Set<LaunchField> fields);
     StatsDataResponse getLaunchStats();
+    LaunchTimeSeriesResponse getLaunchTimeSeries(Integer window);
+    Optional<String> getDataVersion();
+    Optional<String> getLaunchVersion(String id);
+    void onLaunchUpdate(Consumer<LaunchUpdateResponse> listener);
+    LaunchReadScope openReadScope();
+    CompletableFuture<Optional<LaunchResponse>> getLaunchByIdAsync(String id);
+    CompletableFuture<Optional<LaunchResponse>> getLaunchByIdAsync(String id, Set<LaunchField> fields);
+    CompletableFuture<List<LaunchSummaryResponse>> getAllLaunchesAsync();
+    CompletableFuture<List<LaunchSummaryResponse>> getAllLaunchesAsync(Set<LaunchField> fields);
+    CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByStatusAsync(String status);
+    CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByStatusAsync(String status, Set<LaunchField> fields);
+    CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByRocketAsync(String rocketId);
+    CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByRocketAsync(String rocketId, Set<LaunchField> fields);
 }
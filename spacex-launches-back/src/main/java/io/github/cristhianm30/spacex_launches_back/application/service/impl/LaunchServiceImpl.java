@@ -2,20 +2,29 @@ package io.github.cristhianm30.spacex_launches_back.application.service.impl;
 
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchSummaryResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchTimeSeriesResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchUpdateResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.StatsDataResponse;
-import io.github.cristhianm30.spacex_launches_back.domain.util.constant.LaunchStatusConstants;
 import io.github.cristhianm30.spacex_launches_back.application.mapper.LaunchMapperDto;
 import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
 import io.github.cristhianm30.spacex_launches_back.domain.port.in.LaunchUseCasePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,61 +39,145 @@ public class LaunchServiceImpl implements LaunchService {
                 .map(mapper::toResponse);
     }
 
+    @Override
+    public List<LaunchResponse> getLaunchesByIds(List<String> ids) {
+        return mapper.toResponseList(useCasePort.getLaunchesByIds(ids));
+    }
+
     @Override
     public List<LaunchSummaryResponse> getAllLaunches() {
-        return mapper.toSummaryResponseList(useCasePort.getAllLaunches());
+        return mapper.toSummaryResponseList(useCasePort.getAllLaunches(LaunchField.SUMMARY));
+    }
+
+    @Override
+    public Stream<LaunchSummaryResponse> getAllLaunchesLazily() {
+        return useCasePort.getAllLaunches(LaunchField.SUMMARY).stream().map(mapper::toSummaryResponse);
+    }
+
+    @Override
+    public void streamAllLaunches(Consumer<LaunchSummaryResponse> consumer) {
+        useCasePort.streamAllLaunches(LaunchField.SUMMARY, launch -> consumer.accept(mapper.toSummaryResponse(launch)));
     }
 
     @Override
     public Page<LaunchSummaryResponse> getLaunches(String status, Pageable pageable) {
-        Page<LaunchModel> domainPage = useCasePort.getLaunches(status, pageable);
-        List<LaunchSummaryResponse> responseList = domainPage.getContent().stream().map(mapper::toSummaryResponse).collect(Collectors.toList());
-        return new Page<>(responseList, domainPage.getNumber(), domainPage.getSize(), domainPage.getTotalElements());
+        return getLaunches(status, pageable, LaunchField.SUMMARY);
+    }
+
+    @Override
+    public Page<LaunchSummaryResponse> getLaunches(String status, Pageable pageable, Set<LaunchField> fields) {
+        Page<LaunchModel> domainPage = useCasePort.getLaunches(status, pageable, fields);
+        List<LaunchSummaryResponse> responseList = mapper.toSummaryResponseList(domainPage.getContent());
+        return new Page<>(responseList, domainPage.getNumber(), domainPage.getSize(), domainPage.getTotalElements(), domainPage.getNextCursor());
     }
 
     @Override
     public List<LaunchSummaryResponse> getLaunchesByStatus(String status) {
-        return mapper.toSummaryResponseList(useCasePort.getLaunchesByStatus(status));
+        return mapper.toSummaryResponseList(useCasePort.getLaunchesByStatus(status, LaunchField.SUMMARY));
     }
 
     @Override
     public List<LaunchSummaryResponse> getLaunchesByRocket(String rocketId) {
-        return mapper.toSummaryResponseList(useCasePort.getLaunchesByRocket(rocketId));
+        return mapper.toSummaryResponseList(useCasePort.getLaunchesByRocket(rocketId, LaunchField.SUMMARY));
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchResponse>> getLaunchByIdAsync(String id) {
+        return useCasePort.getLaunchByIdAsync(id)
+                .thenApply(launch -> launch.map(mapper::toResponse));
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchResponse>> getLaunchByIdAsync(String id, Set<LaunchField> fields) {
+        return useCasePort.getLaunchByIdAsync(id, fields)
+                .thenApply(launch -> launch.map(mapper::toResponse));
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchSummaryResponse>> getAllLaunchesAsync() {
+        return getAllLaunchesAsync(LaunchField.SUMMARY);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchSummaryResponse>> getAllLaunchesAsync(Set<LaunchField> fields) {
+        return useCasePort.getAllLaunchesAsync(fields)
+                .thenApply(mapper::toSummaryResponseList);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByStatusAsync(String status) {
+        return getLaunchesByStatusAsync(status, LaunchField.SUMMARY);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByStatusAsync(String status, Set<LaunchField> fields) {
+        return useCasePort.getLaunchesByStatusAsync(status, fields)
+                .thenApply(mapper::toSummaryResponseList);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByRocketAsync(String rocketId) {
+        return getLaunchesByRocketAsync(rocketId, LaunchField.SUMMARY);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchSummaryResponse>> getLaunchesByRocketAsync(String rocketId, Set<LaunchField> fields) {
+        return useCasePort.getLaunchesByRocketAsync(rocketId, fields)
+                .thenApply(mapper::toSummaryResponseList);
+    }
+
+    @Override
+    public List<LaunchSummaryResponse> searchLaunches(LaunchQuery query, Set<LaunchField> fields) {
+        return mapper.toSummaryResponseList(useCasePort.searchLaunches(query, fields));
+    }
+
+    @Override
+    public List<LaunchSummaryResponse> searchLaunchesByText(LaunchTextQuery query, Set<LaunchField> fields) {
+        return mapper.toSummaryResponseList(useCasePort.searchLaunchesByText(query, fields));
+    }
+
+    @Override
+    public List<LaunchSummaryResponse> getLaunchesBetween(Instant from, Instant to, Set<LaunchField> fields) {
+        return mapper.toSummaryResponseList(useCasePort.getLaunchesBetween(from, to, fields));
+    }
+
+    @Override
+    public List<LaunchSummaryResponse> getUpcomingLaunches(Integer limit, Set<LaunchField> fields) {
+        return mapper.toSummaryResponseList(useCasePort.getUpcomingLaunches(limit, fields));
+    }
+
+    @Override
+    public List<LaunchSummaryResponse> getLatestLaunches(Integer limit, Set<LaunchField> fields) {
+        return mapper.toSummaryResponseList(useCasePort.getLatestLaunches(limit, fields));
     }
 
     @Override
     public StatsDataResponse getLaunchStats() {
-        List<LaunchSummaryResponse> all = getAllLaunches();
-        if (all.isEmpty()) {
-            return new StatsDataResponse(0, 0.0, 0, 0, 0);
-        }
-
-        long successful = 0;
-        long failed = 0;
-        long upcoming = 0;
-
-        for (LaunchSummaryResponse launch : all) {
-            switch (launch.getStatus()) {
-                case LaunchStatusConstants.SUCCESS:
-                    successful++;
-                    break;
-                case LaunchStatusConstants.FAILED:
-                    failed++;
-                    break;
-                case LaunchStatusConstants.UPCOMING:
-                    upcoming++;
-                    break;
-            }
-        }
-
-        double successRate = (double) successful / all.size() * 100;
-
-        return StatsDataResponse.builder()
-                .totalLaunches(all.size())
-                .successRate(successRate)
-                .successfulLaunches((int) successful)
-                .failedLaunches((int) failed)
-                .upcomingLaunches((int) upcoming)
-                .build();
+        return mapper.toStatsResponse(useCasePort.getLaunchStats());
+    }
+
+    @Override
+    public LaunchTimeSeriesResponse getLaunchTimeSeries(Integer window) {
+        return mapper.toTimeSeriesResponse(useCasePort.getLaunchTimeSeries(window));
+    }
+
+    @Override
+    public Optional<String> getDataVersion() {
+        return useCasePort.getDataVersion();
+    }
+
+    @Override
+    public Optional<String> getLaunchVersion(String id) {
+        return useCasePort.getLaunchVersion(id);
+    }
+
+    @Override
+    public void onLaunchUpdate(Consumer<LaunchUpdateResponse> listener) {
+        useCasePort.onLaunchUpdate(update -> listener.accept(mapper.toUpdateResponse(update)));
+    }
+
+    @Override
+    public LaunchReadScope openReadScope() {
+        return useCasePort.openReadScope();
     }
 }
@@ -0,0 +1,221 @@
+package io.github.cristhianm30.spacex_launches_back.domain.index;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchChange;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One version of the launch set, ordered by launch date, together with everything derived from it: sorted and
+ * text indexes, stats and per-launch content hashes. A snapshot is never modified after it is built;
+ * {@link #apply} returns a new one with the next version, so readers holding a reference keep seeing launches,
+ * indexes and stats that agree with each other while newer versions are published. Time series are the only
+ * lazily filled part and are memoized per window, computed from this snapshot's launches.
+ */
+public final class LaunchSnapshot {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<LaunchModel> launches;
+    private final Map<String, LaunchModel> byId;
+    private final LaunchSortedIndex index;
+    private final LaunchTextIndex textIndex;
+    private final LaunchStats stats;
+    private final Map<Integer, LaunchTimeSeries> timeSeries = new ConcurrentHashMap<>();
+    private final Map<String, Long> hashes;
+    private final long contentHash;
+    private final long version;
+    private final Instant loadedAt;
+    private final LaunchUpdate update;
+
+    private LaunchSnapshot(List<LaunchModel> launches, Map<String, LaunchModel> byId, LaunchSortedIndex index,
+                           LaunchTextIndex textIndex, LaunchStats stats, Map<String, Long> hashes, long contentHash,
+                           long version, Instant loadedAt, LaunchUpdate update) {
+        this.launches = launches;
+        this.byId = byId;
+        this.index = index;
+        this.textIndex = textIndex;
+        this.stats = stats;
+        this.hashes = hashes;
+        this.contentHash = contentHash;
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.update = update;
+    }
+
+    public static LaunchSnapshot of(List<LaunchModel> launches, long version) {
+        return of(launches, version, Instant.now());
+    }
+
+    public static LaunchSnapshot of(List<LaunchModel> launches, long version, Instant loadedAt) {
+        List<LaunchModel> copy = launches.stream()
+                .sorted(LaunchModel.BY_LAUNCH_DATE)
+                .toList();
+        Map<String, LaunchModel> byId = copy.stream()
+                .collect(Collectors.toUnmodifiableMap(LaunchModel::getLaunchId, Function.identity(), (first, second) -> second));
+        Map<String, Long> hashes = new HashMap<>(byId.size());
+        long contentHash = 0;
+        for (LaunchModel launch : byId.values()) {
+            long hash = hashOf(launch);
+            hashes.put(launch.getLaunchId(), hash);
+            contentHash += hash;
+        }
+        return new LaunchSnapshot(copy, byId, LaunchSortedIndex.of(byId.values()), LaunchTextIndex.of(byId.values()),
+                LaunchStats.of(copy), Collections.unmodifiableMap(hashes), contentHash, version, loadedAt, null);
+    }
+
+    /**
+     * The next version with {@code changes} folded in. Only the changed launches are hashed, sorted and
+     * tokenized: they are merged into the launch list and the sorted index, and swapped in the text index,
+     * while the unchanged ones are carried over. The resulting {@link #update()} is built from the batch itself.
+     */
+    public LaunchSnapshot apply(List<LaunchChange> changes) {
+        Map<String, LaunchModel> updatedById = new HashMap<>(byId);
+        Map<String, Long> updatedHashes = new HashMap<>(hashes);
+        Map<String, LaunchModel> changed = new LinkedHashMap<>();
+        LaunchStats updatedStats = stats;
+        long updatedContentHash = contentHash;
+
+        for (LaunchChange change : changes) {
+            LaunchModel current = change.type() == LaunchChange.Type.REMOVE ? null : change.launch();
+            LaunchModel previous = current == null
+                    ? updatedById.remove(change.launchId())
+                    : updatedById.put(change.launchId(), current);
+            Long previousHash = current == null
+                    ? updatedHashes.remove(change.launchId())
+                    : updatedHashes.put(change.launchId(), hashOf(current));
+            updatedStats = updatedStats.apply(previous, current);
+            updatedContentHash += (current == null ? 0 : updatedHashes.get(change.launchId()))
+                    - (previousHash == null ? 0 : previousHash);
+            changed.put(change.launchId(), current);
+        }
+
+        List<LaunchModel> upserts = changed.values().stream()
+                .filter(Objects::nonNull)
+                .sorted(LaunchModel.BY_LAUNCH_DATE)
+                .toList();
+        List<LaunchModel> replaced = changed.keySet().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        List<LaunchModel> merged = new ArrayList<>(updatedById.size());
+        int next = 0;
+        for (LaunchModel launch : launches) {
+            if (changed.containsKey(launch.getLaunchId())) {
+                continue;
+            }
+            while (next < upserts.size() && LaunchModel.BY_LAUNCH_DATE.compare(upserts.get(next), launch) < 0) {
+                merged.add(upserts.get(next++));
+            }
+            merged.add(launch);
+        }
+        merged.addAll(upserts.subList(next, upserts.size()));
+
+        List<LaunchModel> upserted = upserts.stream()
+                .filter(launch -> !updatedHashes.get(launch.getLaunchId()).equals(hashes.get(launch.getLaunchId())))
+                .toList();
+        List<String> removed = changed.entrySet().stream()
+                .filter(change -> change.getValue() == null && hashes.containsKey(change.getKey()))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        LaunchUpdate update = new LaunchUpdate(HexFormat.of().toHexDigits(updatedContentHash), upserted, removed,
+                updatedStats);
+
+        return new LaunchSnapshot(Collections.unmodifiableList(merged), Collections.unmodifiableMap(updatedById),
+                index.apply(changed.keySet(), upserts), textIndex.apply(replaced, upserts), updatedStats,
+                Collections.unmodifiableMap(updatedHashes), updatedContentHash, version + 1, loadedAt, update);
+    }
+
+    public List<LaunchModel> launches() {
+        return launches;
+    }
+
+    public Optional<LaunchModel> find(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public LaunchSortedIndex index() {
+        return index;
+    }
+
+    public LaunchTextIndex textIndex() {
+        return textIndex;
+    }
+
+    public LaunchStats stats() {
+        return stats;
+    }
+
+    public LaunchTimeSeries timeSeries(int window) {
+        return timeSeries.computeIfAbsent(window, months -> LaunchTimeSeries.of(launches, months));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return launches.size();
+    }
+
+    public String dataVersion() {
+        return HexFormat.of().toHexDigits(contentHash);
+    }
+
+    public Optional<String> launchVersion(String id) {
+        return Optional.ofNullable(hashes.get(id)).map(HexFormat.of()::toHexDigits);
+    }
+
+    /**
+     * What {@link #apply} changed to produce this snapshot, or {@code null} for one built from a full launch list.
+     */
+    public LaunchUpdate update() {
+        return update;
+    }
+
+    public LaunchUpdate diff(LaunchSnapshot previous) {
+        List<LaunchModel> upserted = new ArrayList<>();
+        for (Map.Entry<String, Long> hash : hashes.entrySet()) {
+            if (!hash.getValue().equals(previous.hashes.get(hash.getKey()))) {
+                upserted.add(byId.get(hash.getKey()));
+            }
+        }
+        upserted.sort(LaunchModel.BY_LAUNCH_DATE);
+        List<String> removed = previous.hashes.keySet().stream()
+                .filter(id -> !hashes.containsKey(id))
+                .sorted()
+                .toList();
+        return new LaunchUpdate(dataVersion(), List.copyOf(upserted), removed, stats);
+    }
+
+    private static long hashOf(LaunchModel launch) {
+        String content = launch.toString();
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < content.length(); i++) {
+            hash ^= content.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.cristhianm30.spacex_launches_back.domain.index;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Launches pre-sorted by launch date and by flight number, with the sort keys held in primitive arrays.
+ * A search binary-searches its range bounds on the ordering it returns, then walks that ordering and stops
+ * as soon as {@code limit} matches are found, so "latest 10" reads about ten entries instead of the whole set.
+ * Launches without a parseable date or flight number sit after the keyed ones in both directions and never
+ * match a range on that key. Date ranges and next/previous lookups are one binary search plus a copy of the
+ * {@code k} launches returned. Instances are immutable; {@link #apply} merges a batch of changed launches into
+ * both orderings without sorting the unchanged ones again.
+ */
+public final class LaunchSortedIndex {
+
+    public static final long UNKNOWN_DATE = Long.MAX_VALUE;
+    public static final int UNKNOWN_FLIGHT_NUMBER = Integer.MAX_VALUE;
+
+    private static final Comparator<Entry> BY_LAUNCH_ID = Comparator.comparing(entry -> entry.launch().getLaunchId(),
+            Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<Entry> BY_DATE = Comparator.comparingLong(Entry::date).thenComparing(BY_LAUNCH_ID);
+    private static final Comparator<Entry> BY_FLIGHT_NUMBER = Comparator.comparingInt(Entry::flightNumber)
+            .thenComparing(BY_LAUNCH_ID);
+
+    public static final LaunchSortedIndex EMPTY = of(List.of());
+
+    private final Ordering byDate;
+    private final Ordering byFlightNumber;
+
+    private LaunchSortedIndex(Ordering byDate, Ordering byFlightNumber) {
+        this.byDate = byDate;
+        this.byFlightNumber = byFlightNumber;
+    }
+
+    public static LaunchSortedIndex of(Collection<LaunchModel> launches) {
+        Entry[] entries = entriesOf(launches);
+        Arrays.sort(entries, BY_DATE);
+        Ordering byDate = Ordering.of(entries, true);
+        Arrays.sort(entries, BY_FLIGHT_NUMBER);
+        Ordering byFlightNumber = Ordering.of(entries, false);
+        return new LaunchSortedIndex(byDate, byFlightNumber);
+    }
+
+    /**
+     * A copy of this index without the launches in {@code changedIds} and with {@code upserts} added. Only the
+     * upserts are sorted; they are then merged into each ordering in one pass.
+     */
+    public LaunchSortedIndex apply(Set<String> changedIds, Collection<LaunchModel> upserts) {
+        Entry[] entries = entriesOf(upserts);
+        Arrays.sort(entries, BY_DATE);
+        Ordering byDate = this.byDate.merge(changedIds, entries, BY_DATE, true);
+        Arrays.sort(entries, BY_FLIGHT_NUMBER);
+        Ordering byFlightNumber = this.byFlightNumber.merge(changedIds, entries, BY_FLIGHT_NUMBER, false);
+        return new LaunchSortedIndex(byDate, byFlightNumber);
+    }
+
+    public static long epochOf(String launchDateUtc) {
+        if (launchDateUtc == null) {
+            return UNKNOWN_DATE;
+        }
+        try {
+            return OffsetDateTime.parse(launchDateUtc).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return UNKNOWN_DATE;
+        }
+    }
+
+    public int size() {
+        return byDate.launches().length;
+    }
+
+    public List<LaunchModel> search(LaunchQuery query) {
+        long from = query.from() == null ? Long.MIN_VALUE : query.from().toEpochMilli();
+        long to = query.to() == null ? UNKNOWN_DATE - 1 : query.to().toEpochMilli();
+        int minFlightNumber = query.minFlightNumber() == null ? Integer.MIN_VALUE : query.minFlightNumber();
+        int maxFlightNumber = query.maxFlightNumber() == null ? UNKNOWN_FLIGHT_NUMBER - 1 : query.maxFlightNumber();
+        boolean dateBounded = query.from() != null || query.to() != null;
+        boolean flightBounded = query.minFlightNumber() != null || query.maxFlightNumber() != null;
+
+        Ordering ordering = query.sort().byLaunchDate() ? byDate : byFlightNumber;
+        int low;
+        int high;
+        if (query.sort().byLaunchDate()) {
+            low = dateBounded ? lowerBound(ordering.dates(), from) : 0;
+            high = dateBounded ? lowerBound(ordering.dates(), to + 1) : ordering.launches().length;
+        } else {
+            low = flightBounded ? lowerBound(ordering.flightNumbers(), minFlightNumber) : 0;
+            high = flightBounded ? lowerBound(ordering.flightNumbers(), maxFlightNumber + 1L) : ordering.launches().length;
+        }
+
+        int limit = query.limit() == null ? Integer.MAX_VALUE : query.limit();
+        List<LaunchModel> matches = new ArrayList<>(Math.min(limit, high - low));
+        int keyed = Math.min(high, ordering.keyed());
+        if (query.sort().ascending()) {
+            collect(ordering, low, keyed, 1, query, from, to, minFlightNumber, maxFlightNumber, limit, matches);
+        } else {
+            collect(ordering, keyed - 1, low - 1, -1, query, from, to, minFlightNumber, maxFlightNumber, limit, matches);
+        }
+        collect(ordering, Math.max(low, keyed), high, 1, query, from, to, minFlightNumber, maxFlightNumber, limit, matches);
+        return matches;
+    }
+
+    /**
+     * Launches dated within {@code from} and {@code to}, both inclusive and optional, oldest first.
+     */
+    public List<LaunchModel> between(Instant from, Instant to) {
+        int low = from == null ? 0 : lowerBound(byDate.dates(), from.toEpochMilli());
+        int high = to == null ? byDate.keyed() : Math.min(byDate.keyed(), lowerBound(byDate.dates(), to.toEpochMilli() + 1));
+        return slice(low, Math.max(low, high), false);
+    }
+
+    /**
+     * The first {@code limit} launches dated at or after {@code from}, oldest first.
+     */
+    public List<LaunchModel> next(Instant from, int limit) {
+        int low = Math.min(byDate.keyed(), lowerBound(byDate.dates(), from.toEpochMilli()));
+        return slice(low, (int) Math.min(byDate.keyed(), (long) low + limit), false);
+    }
+
+    /**
+     * The last {@code limit} launches dated before {@code to}, newest first.
+     */
+    public List<LaunchModel> previous(Instant to, int limit) {
+        int high = Math.min(byDate.keyed(), lowerBound(byDate.dates(), to.toEpochMilli()));
+        return slice(Math.max(0, high - limit), high, true);
+    }
+
+    private List<LaunchModel> slice(int low, int high, boolean reversed) {
+        LaunchModel[] launches = Arrays.copyOfRange(byDate.launches(), low, high);
+        if (reversed) {
+            for (int i = 0, j = launches.length - 1; i < j; i++, j--) {
+                LaunchModel swap = launches[i];
+                launches[i] = launches[j];
+                launches[j] = swap;
+            }
+        }
+        return List.of(launches);
+    }
+
+    private static void collect(Ordering ordering, int start, int end, int step, LaunchQuery query,
+                                long from, long to, int minFlightNumber, int maxFlightNumber,
+                                int limit, List<LaunchModel> matches) {
+        long[] dates = ordering.dates();
+        int[] flightNumbers = ordering.flightNumbers();
+        LaunchModel[] launches = ordering.launches();
+        boolean dateBounded = query.from() != null || query.to() != null;
+        boolean flightBounded = query.minFlightNumber() != null || query.maxFlightNumber() != null;
+
+        for (int i = start; i != end && matches.size() < limit; i += step) {
+            if (dateBounded && (dates[i] < from || dates[i] > to)) {
+                continue;
+            }
+            if (flightBounded && (flightNumbers[i] < minFlightNumber || flightNumbers[i] > maxFlightNumber)) {
+                continue;
+            }
+            if (query.matchesAttributes(launches[i])) {
+                matches.add(launches[i]);
+            }
+        }
+    }
+
+    private static int lowerBound(long[] keys, long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(int[] keys, long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static Entry[] entriesOf(Collection<LaunchModel> launches) {
+        return launches.stream()
+                .map(launch -> new Entry(launch, epochOf(launch.getLaunchDateUtc()), flightNumberOf(launch)))
+                .toArray(Entry[]::new);
+    }
+
+    private static int flightNumberOf(LaunchModel launch) {
+        return launch.getFlightNumber() == null ? UNKNOWN_FLIGHT_NUMBER : launch.getFlightNumber();
+    }
+
+    private record Entry(LaunchModel launch, long date, int flightNumber) {
+    }
+
+    /**
+     * One ordering of the launches with its keys laid out alongside; {@code keyed} counts the leading
+     * entries whose sort key is known.
+     */
+    private record Ordering(LaunchModel[] launches, long[] dates, int[] flightNumbers, int keyed) {
+
+        static Ordering of(Entry[] entries, boolean byDate) {
+            LaunchModel[] launches = new LaunchModel[entries.length];
+            long[] dates = new long[entries.length];
+            int[] flightNumbers = new int[entries.length];
+            int keyed = 0;
+            for (int i = 0; i < entries.length; i++) {
+                launches[i] = entries[i].launch();
+                dates[i] = entries[i].date();
+                flightNumbers[i] = entries[i].flightNumber();
+                if (byDate ? dates[i] != UNKNOWN_DATE : flightNumbers[i] != UNKNOWN_FLIGHT_NUMBER) {
+                    keyed++;
+                }
+            }
+            return new Ordering(launches, dates, flightNumbers, keyed);
+        }
+
+        Ordering merge(Set<String> changedIds, Entry[] upserts, Comparator<Entry> order, boolean byDate) {
+            Entry[] merged = new Entry[launches.length + upserts.length];
+            int size = 0;
+            int next = 0;
+            for (int i = 0; i < launches.length; i++) {
+                if (changedIds.contains(launches[i].getLaunchId())) {
+                    continue;
+                }
+                Entry entry = new Entry(launches[i], dates[i], flightNumbers[i]);
+                while (next < upserts.length && order.compare(upserts[next], entry) < 0) {
+                    merged[size++] = upserts[next++];
+                }
+                merged[size++] = entry;
+            }
+            while (next < upserts.length) {
+                merged[size++] = upserts[next++];
+            }
+            return of(Arrays.copyOf(merged, size), byDate);
+        }
+    }
+}
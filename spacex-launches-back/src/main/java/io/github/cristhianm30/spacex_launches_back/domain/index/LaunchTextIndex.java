@@ -0,0 +1,289 @@
+package io.github.cristhianm30.spacex_launches_back.domain.index;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over mission names and details. Text is split on anything that is not a letter or digit,
+ * lower-cased and stripped of accents, so "Misión" and "mision" are the same term. Terms are kept sorted with
+ * their postings in primitive arrays: an exact term is one binary search, and a prefix is the contiguous run of
+ * terms that follows it. A query only touches the postings of its own terms, so its cost depends on how many
+ * launches match rather than on how many exist. Words in the mission name weigh more than words in the details,
+ * rarer terms weigh more than common ones, and ties go to the most recent launch. Instances are immutable;
+ * {@link #apply} re-tokenizes only the changed launches, leaving a removed launch's slot empty until empty slots
+ * outnumber live ones and the index is rebuilt.
+ */
+public final class LaunchTextIndex {
+
+    public static final LaunchTextIndex EMPTY = of(List.of());
+
+    private static final float MISSION_NAME_WEIGHT = 3f;
+    private static final float DETAILS_WEIGHT = 1f;
+    private static final float PREFIX_MATCH_WEIGHT = 0.5f;
+    private static final float SATURATION = 1.2f;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<LaunchModel> MOST_RECENT_FIRST = Comparator
+            .comparing(LaunchModel::getLaunchDateUtc, Comparator.nullsLast(Comparator.<String>reverseOrder()))
+            .thenComparing(LaunchModel::getLaunchId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final LaunchModel[] launches;
+    private final int size;
+    private final String[] terms;
+    private final int[][] postings;
+    private final float[][] scores;
+
+    private LaunchTextIndex(LaunchModel[] launches, int size, String[] terms, int[][] postings, float[][] scores) {
+        this.launches = launches;
+        this.size = size;
+        this.terms = terms;
+        this.postings = postings;
+        this.scores = scores;
+    }
+
+    public static LaunchTextIndex of(Collection<LaunchModel> launches) {
+        LaunchModel[] ordered = launches.toArray(LaunchModel[]::new);
+        Arrays.sort(ordered, MOST_RECENT_FIRST);
+
+        Map<String, Postings> byTerm = new TreeMap<>();
+        for (int doc = 0; doc < ordered.length; doc++) {
+            index(ordered[doc], doc, term -> byTerm.computeIfAbsent(term, key -> new Postings()));
+        }
+
+        String[] terms = new String[byTerm.size()];
+        int[][] postings = new int[byTerm.size()][];
+        float[][] scores = new float[byTerm.size()][];
+        int i = 0;
+        for (Map.Entry<String, Postings> entry : byTerm.entrySet()) {
+            terms[i] = entry.getKey();
+            postings[i] = Arrays.copyOf(entry.getValue().docs, entry.getValue().size);
+            scores[i] = entry.getValue().scores();
+            i++;
+        }
+        return new LaunchTextIndex(ordered, ordered.length, terms, postings, scores);
+    }
+
+    /**
+     * A copy of this index without {@code removed}, matched by identity, and with {@code added} in new slots.
+     * Only the terms of those launches are touched; every other term keeps its postings arrays.
+     */
+    public LaunchTextIndex apply(Collection<LaunchModel> removed, Collection<LaunchModel> added) {
+        Set<LaunchModel> gone = Collections.newSetFromMap(new IdentityHashMap<>());
+        gone.addAll(removed);
+        LaunchModel[] slots = Arrays.copyOf(launches, launches.length + added.size());
+        Map<String, TermEdit> edits = new TreeMap<>();
+        int live = size;
+        for (int doc = 0; doc < launches.length && !gone.isEmpty(); doc++) {
+            if (launches[doc] != null && gone.remove(launches[doc])) {
+                for (String term : termsOf(launches[doc])) {
+                    edits.computeIfAbsent(term, key -> new TermEdit()).removed.add(doc);
+                }
+                slots[doc] = null;
+                live--;
+            }
+        }
+        int next = launches.length;
+        for (LaunchModel launch : added) {
+            index(launch, next, term -> edits.computeIfAbsent(term, key -> new TermEdit()).added);
+            slots[next++] = launch;
+            live++;
+        }
+        if (slots.length - live > live) {
+            return of(Arrays.stream(slots).filter(Objects::nonNull).toList());
+        }
+
+        List<String> editedTerms = new ArrayList<>(terms.length + edits.size());
+        List<int[]> editedPostings = new ArrayList<>(terms.length + edits.size());
+        List<float[]> editedScores = new ArrayList<>(terms.length + edits.size());
+        int i = 0;
+        for (Map.Entry<String, TermEdit> edit : edits.entrySet()) {
+            for (; i < terms.length && terms[i].compareTo(edit.getKey()) < 0; i++) {
+                editedTerms.add(terms[i]);
+                editedPostings.add(postings[i]);
+                editedScores.add(scores[i]);
+            }
+            Postings term = new Postings();
+            if (i < terms.length && terms[i].equals(edit.getKey())) {
+                for (int j = 0; j < postings[i].length; j++) {
+                    if (!edit.getValue().removed.contains(postings[i][j])) {
+                        term.put(postings[i][j], scores[i][j]);
+                    }
+                }
+                i++;
+            }
+            Postings additions = edit.getValue().added;
+            float[] additionScores = additions.scores();
+            for (int j = 0; j < additions.size; j++) {
+                term.put(additions.docs[j], additionScores[j]);
+            }
+            if (term.size > 0) {
+                editedTerms.add(edit.getKey());
+                editedPostings.add(Arrays.copyOf(term.docs, term.size));
+                editedScores.add(Arrays.copyOf(term.frequencies, term.size));
+            }
+        }
+        for (; i < terms.length; i++) {
+            editedTerms.add(terms[i]);
+            editedPostings.add(postings[i]);
+            editedScores.add(scores[i]);
+        }
+        return new LaunchTextIndex(slots, live, editedTerms.toArray(String[]::new),
+                editedPostings.toArray(int[][]::new), editedScores.toArray(float[][]::new));
+    }
+
+    private static List<String> termsOf(LaunchModel launch) {
+        List<String> terms = new ArrayList<>(tokenize(launch.getMissionName()));
+        terms.addAll(tokenize(launch.getDetails()));
+        return terms;
+    }
+
+    private static void index(LaunchModel launch, int doc, Function<String, Postings> postings) {
+        for (String term : tokenize(launch.getMissionName())) {
+            postings.apply(term).add(doc, MISSION_NAME_WEIGHT);
+        }
+        for (String term : tokenize(launch.getDetails())) {
+            postings.apply(term).add(doc, DETAILS_WEIGHT);
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<LaunchModel> search(LaunchTextQuery query) {
+        List<String> tokens = tokenize(query.text());
+        Map<Integer, Float> matches = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            matches = match(tokens.get(i), i == tokens.size() - 1, matches);
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (matches == null) {
+            return List.of();
+        }
+
+        List<Map.Entry<Integer, Float>> ranked = new ArrayList<>(matches.entrySet());
+        ranked.sort(Map.Entry.<Integer, Float>comparingByValue().reversed()
+                .thenComparing(match -> launches[match.getKey()], MOST_RECENT_FIRST));
+        int limit = query.limit() == null ? ranked.size() : Math.min(query.limit(), ranked.size());
+        List<LaunchModel> results = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            results.add(launches[ranked.get(i).getKey()]);
+        }
+        return results;
+    }
+
+    /**
+     * Scores of the launches containing {@code token}, added to their score in {@code candidates}. Launches
+     * missing from {@code candidates} are skipped, so chaining calls intersects the matches of every token.
+     */
+    private Map<Integer, Float> match(String token, boolean prefix, Map<Integer, Float> candidates) {
+        int low = lowerBound(token);
+        int high = prefix ? lowerBound(token + Character.MAX_VALUE)
+                : low < terms.length && terms[low].equals(token) ? low + 1 : low;
+
+        Map<Integer, Float> matches = new HashMap<>();
+        for (int term = low; term < high; term++) {
+            int[] docs = postings[term];
+            float idf = (float) Math.log(1 + (double) size / docs.length);
+            float weight = idf * (terms[term].length() == token.length() ? 1f : PREFIX_MATCH_WEIGHT);
+            for (int i = 0; i < docs.length; i++) {
+                if (candidates == null || candidates.containsKey(docs[i])) {
+                    matches.merge(docs[i], scores[term][i] * weight, Float::sum);
+                }
+            }
+        }
+        if (candidates != null) {
+            matches.replaceAll((doc, score) -> score + candidates.get(doc));
+        }
+        return matches;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (terms[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int doc, float weight) {
+            if (size > 0 && docs[size - 1] == doc) {
+                frequencies[size - 1] += weight;
+                return;
+            }
+            put(doc, weight);
+        }
+
+        void put(int doc, float value) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size++] = value;
+        }
+
+        /**
+         * Term frequencies saturated so repeating a word has diminishing returns; the query applies the
+         * inverse document frequency, which changes with the number of launches.
+         */
+        float[] scores() {
+            float[] scores = new float[size];
+            for (int i = 0; i < size; i++) {
+                scores[i] = frequencies[i] * (SATURATION + 1) / (frequencies[i] + SATURATION);
+            }
+            return scores;
+        }
+    }
+
+    private static final class TermEdit {
+
+        private final Set<Integer> removed = new HashSet<>();
+        private final Postings added = new Postings();
+    }
+}
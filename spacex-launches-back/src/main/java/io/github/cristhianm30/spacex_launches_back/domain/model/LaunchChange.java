@@ -0,0 +1,21 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+/**
+ * A single item-level change to the launch table. {@code launch} carries the new image and is {@code null} for removals.
+ */
+public record LaunchChange(Type type, String launchId, LaunchModel launch) {
+
+    public enum Type {
+        INSERT,
+        MODIFY,
+        REMOVE
+    }
+
+    public static LaunchChange upsert(Type type, LaunchModel launch) {
+        return new LaunchChange(type, launch.getLaunchId(), launch);
+    }
+
+    public static LaunchChange remove(String launchId) {
+        return new LaunchChange(Type.REMOVE, launchId, null);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum LaunchField {
+    LAUNCH_ID("launchId"),
+    MISSION_NAME("missionName"),
+    FLIGHT_NUMBER("flightNumber"),
+    LAUNCH_DATE_UTC("launchDateUtc"),
+    SUCCESS("success"),
+    DETAILS("details"),
+    ROCKET_ID("rocketId"),
+    LAUNCHPAD_ID("launchpadId"),
+    PAYLOADS("payloads"),
+    PATCH_SMALL_LINK("patchSmallLink"),
+    PATCH_LARGE_LINK("patchLargeLink"),
+    WEBCAST_LINK("webcastLink"),
+    ARTICLE_LINK("articleLink"),
+    WIKIPEDIA_LINK("wikipediaLink"),
+    STATUS("status");
+
+    public static final Set<LaunchField> ALL = Collections.unmodifiableSet(EnumSet.allOf(LaunchField.class));
+    public static final Set<LaunchField> SUMMARY = Collections.unmodifiableSet(
+            EnumSet.of(LAUNCH_ID, MISSION_NAME, FLIGHT_NUMBER, LAUNCH_DATE_UTC, STATUS, ROCKET_ID));
+
+    private final String property;
+
+    LaunchField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Fields named by {@code properties}, or {@code allowed} when none are requested.
+     * Names outside {@code allowed} are rejected rather than silently dropped.
+     */
+    public static Set<LaunchField> parse(Collection<String> properties, Set<LaunchField> allowed) {
+        if (properties == null || properties.isEmpty()) {
+            return allowed;
+        }
+
+        EnumSet<LaunchField> fields = EnumSet.noneOf(LaunchField.class);
+        for (String name : properties) {
+            String trimmed = name == null ? "" : name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            LaunchField field = allowed.stream()
+                    .filter(candidate -> candidate.property.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidParameterException(EndpointConstants.INVALID_FIELD + trimmed));
+            fields.add(field);
+        }
+        return fields.isEmpty() ? allowed : Collections.unmodifiableSet(fields);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Data
@@ -12,6 +13,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class LaunchModel {
+
+    public static final Comparator<LaunchModel> BY_LAUNCH_DATE =
+            Comparator.comparing(LaunchModel::getLaunchDateUtc, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparing(LaunchModel::getLaunchId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private String launchId;
     private String missionName;
     private Integer flightNumber;
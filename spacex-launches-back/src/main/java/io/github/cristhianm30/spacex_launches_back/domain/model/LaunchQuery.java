@@ -0,0 +1,34 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+
+import java.time.Instant;
+
+/**
+ * Launch search criteria. Every filter is optional and they are combined with AND; {@code from} and {@code to}
+ * bound the launch date inclusively, as do the flight number limits. A {@code null} limit returns every match.
+ */
+public record LaunchQuery(String status, String rocketId, String launchpadId,
+                          Integer minFlightNumber, Integer maxFlightNumber,
+                          Instant from, Instant to, LaunchSort sort, Integer limit) {
+
+    public LaunchQuery {
+        if (limit != null && limit <= 0) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_LIMIT);
+        }
+        if (minFlightNumber != null && maxFlightNumber != null && minFlightNumber > maxFlightNumber) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_FLIGHT_NUMBER_RANGE);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_DATE_RANGE);
+        }
+        sort = sort == null ? LaunchSort.LAUNCH_DATE_DESC : sort;
+    }
+
+    public boolean matchesAttributes(LaunchModel launch) {
+        return (status == null || status.equals(launch.getStatus()))
+                && (rocketId == null || rocketId.equals(launch.getRocketId()))
+                && (launchpadId == null || launchpadId.equals(launch.getLaunchpadId()));
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+/**
+ * While open, every launch read made by the opening thread sees the same data version, even if a newer one is
+ * published meanwhile. Scopes opened inside another one on the same thread are no-ops; closing the outer scope
+ * returns the thread to reading the latest version.
+ */
+@FunctionalInterface
+public interface LaunchReadScope extends AutoCloseable {
+
+    LaunchReadScope NONE = () -> {
+    };
+
+    @Override
+    void close();
+}
@@ -0,0 +1,45 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+
+/**
+ * Result orderings for launch searches, named like the response property they sort by,
+ * with a leading {@code -} for descending order.
+ */
+public enum LaunchSort {
+    LAUNCH_DATE_ASC("launchDateUtc", true, true),
+    LAUNCH_DATE_DESC("-launchDateUtc", true, false),
+    FLIGHT_NUMBER_ASC("flightNumber", false, true),
+    FLIGHT_NUMBER_DESC("-flightNumber", false, false);
+
+    private final String value;
+    private final boolean byLaunchDate;
+    private final boolean ascending;
+
+    LaunchSort(String value, boolean byLaunchDate, boolean ascending) {
+        this.value = value;
+        this.byLaunchDate = byLaunchDate;
+        this.ascending = ascending;
+    }
+
+    public boolean byLaunchDate() {
+        return byLaunchDate;
+    }
+
+    public boolean ascending() {
+        return ascending;
+    }
+
+    public static LaunchSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return LAUNCH_DATE_DESC;
+        }
+        for (LaunchSort sort : values()) {
+            if (sort.value.equals(value.trim())) {
+                return sort;
+            }
+        }
+        throw new InvalidParameterException(EndpointConstants.INVALID_SORT + value);
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.LaunchStatusConstants;
+
+import java.util.Collection;
+
+/**
+ * Launch counters by status. Instances are immutable: {@link #of} rebuilds them from a full launch set and
+ * {@link #apply} derives the next value from a single insert, update or delete without rescanning.
+ */
+public record LaunchStats(long totalLaunches, long successfulLaunches, long failedLaunches, long upcomingLaunches) {
+
+    public static final LaunchStats EMPTY = new LaunchStats(0, 0, 0, 0);
+
+    public static LaunchStats of(Collection<LaunchModel> launches) {
+        long successful = 0;
+        long failed = 0;
+        long upcoming = 0;
+
+        for (LaunchModel launch : launches) {
+            String status = launch.getStatus();
+            if (LaunchStatusConstants.SUCCESS.equals(status)) {
+                successful++;
+            } else if (LaunchStatusConstants.FAILED.equals(status)) {
+                failed++;
+            } else if (LaunchStatusConstants.UPCOMING.equals(status)) {
+                upcoming++;
+            }
+        }
+
+        return new LaunchStats(launches.size(), successful, failed, upcoming);
+    }
+
+    public LaunchStats apply(LaunchModel previous, LaunchModel current) {
+        return adjust(previous, -1).adjust(current, 1);
+    }
+
+    public double successRate() {
+        return totalLaunches == 0 ? 0.0 : (double) successfulLaunches / totalLaunches * 100;
+    }
+
+    private LaunchStats adjust(LaunchModel launch, int delta) {
+        if (launch == null) {
+            return this;
+        }
+
+        String status = launch.getStatus();
+        return new LaunchStats(
+                totalLaunches + delta,
+                successfulLaunches + (LaunchStatusConstants.SUCCESS.equals(status) ? delta : 0),
+                failedLaunches + (LaunchStatusConstants.FAILED.equals(status) ? delta : 0),
+                upcomingLaunches + (LaunchStatusConstants.UPCOMING.equals(status) ? delta : 0));
+    }
+}
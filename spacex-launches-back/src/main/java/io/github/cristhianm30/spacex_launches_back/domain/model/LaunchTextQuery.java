@@ -0,0 +1,20 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+
+/**
+ * Free-text search over mission names and details. Every word of {@code text} must match, the last one also as
+ * a prefix so partially typed queries still find results. A {@code null} limit returns every match.
+ */
+public record LaunchTextQuery(String text, Integer limit) {
+
+    public LaunchTextQuery {
+        if (text == null || text.isBlank()) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_TEXT_QUERY);
+        }
+        if (limit != null && limit <= 0) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Launch counters per UTC calendar month and year, oldest first. Months and years without launches between the
+ * first and the last dated launch are included with zero counts, so the series has no gaps; launches without a
+ * parseable date are left out. Each monthly period also carries the success rate over its trailing
+ * {@code window} months. Everything is computed in one pass over the launches ordered by date.
+ */
+public record LaunchTimeSeries(int window, List<Period> monthly, List<Period> yearly) {
+
+    public static final int DEFAULT_WINDOW = 12;
+    public static final int MAX_WINDOW = 120;
+
+    public static LaunchTimeSeries of(Collection<LaunchModel> launches, int window) {
+        List<Dated> dated = new ArrayList<>(launches.size());
+        for (LaunchModel launch : launches) {
+            OffsetDateTime date = parse(launch.getLaunchDateUtc());
+            if (date != null) {
+                dated.add(new Dated(date.toInstant(), YearMonth.from(date.withOffsetSameInstant(ZoneOffset.UTC)), launch));
+            }
+        }
+        dated.sort(Comparator.comparing(Dated::instant));
+
+        Builder builder = new Builder(window);
+        for (Dated launch : dated) {
+            builder.add(launch.month(), launch.launch());
+        }
+        return builder.build();
+    }
+
+    private static OffsetDateTime parse(String launchDateUtc) {
+        if (launchDateUtc == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(launchDateUtc);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Counters for one month ({@code 2020-05}) or year ({@code 2020}). Success rates are percentages over the
+     * completed launches only, so upcoming launches do not drag them down, and are {@code null} when nothing
+     * was completed. {@code rollingSuccessRate} is {@code null} for yearly periods.
+     */
+    public record Period(String period, LaunchStats stats, Double rollingSuccessRate) {
+
+        public Double successRate() {
+            return rate(stats.successfulLaunches(), stats.successfulLaunches() + stats.failedLaunches());
+        }
+    }
+
+    private static Double rate(long successful, long completed) {
+        return completed == 0 ? null : (double) successful / completed * 100;
+    }
+
+    private record Dated(Instant instant, YearMonth month, LaunchModel launch) {
+    }
+
+    private static final class Builder {
+
+        private final int window;
+        private final long[] windowSuccessful;
+        private final long[] windowCompleted;
+        private final List<Period> monthly = new ArrayList<>();
+        private final List<Period> yearly = new ArrayList<>();
+
+        private YearMonth month;
+        private LaunchStats monthStats = LaunchStats.EMPTY;
+        private LaunchStats yearStats = LaunchStats.EMPTY;
+        private long successfulInWindow;
+        private long completedInWindow;
+
+        private Builder(int window) {
+            this.window = window;
+            this.windowSuccessful = new long[window];
+            this.windowCompleted = new long[window];
+        }
+
+        void add(YearMonth at, LaunchModel launch) {
+            if (month == null) {
+                month = at;
+            }
+            while (month.isBefore(at)) {
+                closeMonth();
+            }
+            monthStats = monthStats.apply(null, launch);
+            yearStats = yearStats.apply(null, launch);
+        }
+
+        LaunchTimeSeries build() {
+            if (month != null) {
+                closeMonth();
+                if (month.getMonthValue() != 1) {
+                    closeYear(month.getYear());
+                }
+            }
+            return new LaunchTimeSeries(window, List.copyOf(monthly), List.copyOf(yearly));
+        }
+
+        private void closeMonth() {
+            int slot = monthly.size() % window;
+            long completed = monthStats.successfulLaunches() + monthStats.failedLaunches();
+            successfulInWindow += monthStats.successfulLaunches() - windowSuccessful[slot];
+            completedInWindow += completed - windowCompleted[slot];
+            windowSuccessful[slot] = monthStats.successfulLaunches();
+            windowCompleted[slot] = completed;
+
+            monthly.add(new Period(month.toString(), monthStats, rate(successfulInWindow, completedInWindow)));
+            monthStats = LaunchStats.EMPTY;
+
+            YearMonth next = month.plusMonths(1);
+            if (next.getYear() != month.getYear()) {
+                closeYear(month.getYear());
+            }
+            month = next;
+        }
+
+        private void closeYear(int year) {
+            yearly.add(new Period(String.valueOf(year), yearStats, null));
+            yearStats = LaunchStats.EMPTY;
+        }
+    }
+}
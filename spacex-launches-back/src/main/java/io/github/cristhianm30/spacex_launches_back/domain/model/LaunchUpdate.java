@@ -0,0 +1,10 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import java.util.List;
+
+/**
+ * Launches inserted or modified ({@code upserted}) and removed by one refresh or change batch, together with the
+ * stats and data version that result from applying it.
+ */
+public record LaunchUpdate(String version, List<LaunchModel> upserted, List<String> removed, LaunchStats stats) {
+}
@@ -13,16 +13,29 @@ import java.util.List;
 @Builder
 public class Page<T> {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
     private List<T> content;
     private int number;
     private int size;
     private long totalElements;
+    private String nextCursor;
+
+    public Page(List<T> content, int number, int size, long totalElements) {
+        this(content, number, size, totalElements, null);
+    }
 
     public int getTotalPages() {
+        if (totalElements == UNKNOWN_TOTAL) {
+            return (int) UNKNOWN_TOTAL;
+        }
         return size == 0 ? 1 : (int) Math.ceil((double) totalElements / (double) size);
     }
 
     public boolean isLast() {
+        if (totalElements == UNKNOWN_TOTAL) {
+            return nextCursor == null;
+        }
         return number + 1 >= getTotalPages();
     }
 
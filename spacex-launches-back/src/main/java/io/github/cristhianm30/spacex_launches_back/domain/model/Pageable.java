@@ -13,4 +13,13 @@ public class Pageable {
 
     private int pageNumber;
     private int pageSize;
+    private String cursor;
+
+    public Pageable(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
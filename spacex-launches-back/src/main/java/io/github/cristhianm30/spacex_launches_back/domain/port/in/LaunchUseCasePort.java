@@ -1,16 +1,51 @@
 package io.github.cristhianm30.spacex_launches_back.domain.port.in;
 
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface LaunchUseCasePort {
     Optional<LaunchModel> getLaunchById(String id);
+    List<LaunchModel> getLaunchesByIds(Collection<String> ids);
     List<LaunchModel> getAllLaunches();
     Page<LaunchModel> getLaunches(String status, Pageable pageable);
     List<LaunchModel> getLaunchesByStatus(String status);
     List<LaunchModel> getLaunchesByRocket(String rocketId);
+    Optional<LaunchModel> getLaunchById(String id, Set<LaunchField> fields);
+    List<LaunchModel> getAllLaunches(Set<LaunchField> fields);
+    void streamAllLaunches(Set<LaunchField> fields, Consumer<LaunchModel> consumer);
+    Page<LaunchModel> getLaunches(String status, Pageable pageable, Set<LaunchField> fields);
+    List<LaunchModel> getLaunchesByStatus(String status, Set<LaunchField> fields);
+    List<LaunchModel> getLaunchesByRocket(String rocketId, Set<LaunchField> fields);
+    List<LaunchModel> searchLaunches(LaunchQuery query, Set<LaunchField> fields);
+    List<LaunchModel> searchLaunchesByText(LaunchTextQuery query, Set<LaunchField> fields);
+    List<LaunchModel> getLaunchesBetween(Instant from, Instant to, Set<LaunchField> fields);
+    List<LaunchModel> getUpcomingLaunches(Integer limit, Set<LaunchField> fields);
+    List<LaunchModel> getLatestLaunches(Integer limit, Set<LaunchField> fields);
+    LaunchStats getLaunchStats();
+    LaunchTimeSeries getLaunchTimeSeries(Integer window);
+    Optional<String> getDataVersion();
+    Optional<String> getLaunchVersion(String id);
+    void onLaunchUpdate(Consumer<LaunchUpdate> listener);
+    LaunchReadScope openReadScope();
+    CompletableFuture<Optional<LaunchModel>> getLaunchByIdAsync(String id);
+    CompletableFuture<Optional<LaunchModel>> getLaunchByIdAsync(String id, Set<LaunchField> fields);
+    CompletableFuture<List<LaunchModel>> getAllLaunchesAsync(Set<LaunchField> fields);
+    CompletableFuture<List<LaunchModel>> getLaunchesByStatusAsync(String status, Set<LaunchField> fields);
+    CompletableFuture<List<LaunchModel>> getLaunchesByRocketAsync(String rocketId, Set<LaunchField> fields);
 }
@@ -0,0 +1,17 @@
+package io.github.cristhianm30.spacex_launches_back.domain.port.out;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public interface LaunchAsyncRepositoryPort {
+    CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id);
+    CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id, Set<LaunchField> fields);
+    CompletableFuture<List<LaunchModel>> findAllAsync(Set<LaunchField> fields);
+    CompletableFuture<List<LaunchModel>> findByStatusAsync(String status, Set<LaunchField> fields);
+    CompletableFuture<List<LaunchModel>> findByRocketIdAsync(String rocketId, Set<LaunchField> fields);
+}
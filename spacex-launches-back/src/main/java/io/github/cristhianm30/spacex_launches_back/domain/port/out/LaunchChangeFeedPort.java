@@ -0,0 +1,11 @@
+package io.github.cristhianm30.spacex_launches_back.domain.port.out;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchChange;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface LaunchChangeFeedPort {
+    void subscribe(Consumer<List<LaunchChange>> listener);
+    void onChangesLost(Runnable listener);
+}
@@ -1,16 +1,45 @@
 package io.github.cristhianm30.spacex_launches_back.domain.port.out;
 
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface LaunchRepositoryPort {
     Optional<LaunchModel> findById(String id);
+    List<LaunchModel> findByIds(Collection<String> ids);
     List<LaunchModel> findAll();
     Page<LaunchModel> findAll(String status, Pageable pageable);
     List<LaunchModel> findByStatus(String status);
     List<LaunchModel> findByRocketId(String rocketId);
+    Optional<LaunchModel> findById(String id, Set<LaunchField> fields);
+    List<LaunchModel> findAll(Set<LaunchField> fields);
+    void streamAll(Set<LaunchField> fields, Consumer<LaunchModel> consumer);
+    Page<LaunchModel> findAll(String status, Pageable pageable, Set<LaunchField> fields);
+    List<LaunchModel> findByStatus(String status, Set<LaunchField> fields);
+    List<LaunchModel> findByRocketId(String rocketId, Set<LaunchField> fields);
+    List<LaunchModel> search(LaunchQuery query, Set<LaunchField> fields);
+    List<LaunchModel> searchText(LaunchTextQuery query, Set<LaunchField> fields);
+    List<LaunchModel> findByLaunchDateBetween(Instant from, Instant to, Set<LaunchField> fields);
+    List<LaunchModel> findNextLaunches(Instant from, int limit, Set<LaunchField> fields);
+    List<LaunchModel> findPreviousLaunches(Instant before, int limit, Set<LaunchField> fields);
+    LaunchStats getStats();
+    LaunchTimeSeries getTimeSeries(int window);
+    Optional<String> getDataVersion();
+    Optional<String> getLaunchVersion(String id);
+    void addUpdateListener(Consumer<LaunchUpdate> listener);
+    LaunchReadScope openReadScope();
 }
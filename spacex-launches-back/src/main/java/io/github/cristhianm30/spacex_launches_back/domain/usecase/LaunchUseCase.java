@@ -1,25 +1,48 @@
 package io.github.cristhianm30.spacex_launches_back.domain.usecase;
 
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
 import io.github.cristhianm30.spacex_launches_back.domain.port.in.LaunchUseCasePort;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
 import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class LaunchUseCase implements LaunchUseCasePort {
 
+    private static final int DEFAULT_TIMELINE_LIMIT = 10;
+
     private final LaunchRepositoryPort repositoryPort;
+    private final LaunchAsyncRepositoryPort asyncRepositoryPort;
 
     @Override
     public Optional<LaunchModel> getLaunchById(String id) {
         return repositoryPort.findById(id);
     }
 
+    @Override
+    public List<LaunchModel> getLaunchesByIds(Collection<String> ids) {
+        return repositoryPort.findByIds(ids);
+    }
+
     @Override
     public List<LaunchModel> getAllLaunches() {
         return repositoryPort.findAll();
@@ -39,4 +62,131 @@ public class LaunchUseCase implements LaunchUseCasePort {
     public List<LaunchModel> getLaunchesByRocket(String rocketId) {
         return repositoryPort.findByRocketId(rocketId);
     }
+
+    @Override
+    public Optional<LaunchModel> getLaunchById(String id, Set<LaunchField> fields) {
+        return repositoryPort.findById(id, fields);
+    }
+
+    @Override
+    public List<LaunchModel> getAllLaunches(Set<LaunchField> fields) {
+        return repositoryPort.findAll(fields);
+    }
+
+    @Override
+    public void streamAllLaunches(Set<LaunchField> fields, Consumer<LaunchModel> consumer) {
+        repositoryPort.streamAll(fields, consumer);
+    }
+
+    @Override
+    public Page<LaunchModel> getLaunches(String status, Pageable pageable, Set<LaunchField> fields) {
+        return repositoryPort.findAll(status, pageable, fields);
+    }
+
+    @Override
+    public List<LaunchModel> getLaunchesByStatus(String status, Set<LaunchField> fields) {
+        return repositoryPort.findByStatus(status, fields);
+    }
+
+    @Override
+    public List<LaunchModel> getLaunchesByRocket(String rocketId, Set<LaunchField> fields) {
+        return repositoryPort.findByRocketId(rocketId, fields);
+    }
+
+    @Override
+    public List<LaunchModel> searchLaunches(LaunchQuery query, Set<LaunchField> fields) {
+        return repositoryPort.search(query, fields);
+    }
+
+    @Override
+    public List<LaunchModel> searchLaunchesByText(LaunchTextQuery query, Set<LaunchField> fields) {
+        return repositoryPort.searchText(query, fields);
+    }
+
+    @Override
+    public List<LaunchModel> getLaunchesBetween(Instant from, Instant to, Set<LaunchField> fields) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_DATE_RANGE);
+        }
+        return repositoryPort.findByLaunchDateBetween(from, to, fields);
+    }
+
+    @Override
+    public List<LaunchModel> getUpcomingLaunches(Integer limit, Set<LaunchField> fields) {
+        return repositoryPort.findNextLaunches(Instant.now(), timelineLimit(limit), fields);
+    }
+
+    @Override
+    public List<LaunchModel> getLatestLaunches(Integer limit, Set<LaunchField> fields) {
+        return repositoryPort.findPreviousLaunches(Instant.now(), timelineLimit(limit), fields);
+    }
+
+    private static int timelineLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_TIMELINE_LIMIT;
+        }
+        if (limit <= 0) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_LIMIT);
+        }
+        return limit;
+    }
+
+    @Override
+    public LaunchStats getLaunchStats() {
+        return repositoryPort.getStats();
+    }
+
+    @Override
+    public LaunchTimeSeries getLaunchTimeSeries(Integer window) {
+        int months = window == null ? LaunchTimeSeries.DEFAULT_WINDOW : window;
+        if (months < 1 || months > LaunchTimeSeries.MAX_WINDOW) {
+            throw new InvalidParameterException(EndpointConstants.INVALID_WINDOW);
+        }
+        return repositoryPort.getTimeSeries(months);
+    }
+
+    @Override
+    public Optional<String> getDataVersion() {
+        return repositoryPort.getDataVersion();
+    }
+
+    @Override
+    public Optional<String> getLaunchVersion(String id) {
+        return repositoryPort.getLaunchVersion(id);
+    }
+
+    @Override
+    public void onLaunchUpdate(Consumer<LaunchUpdate> listener) {
+        repositoryPort.addUpdateListener(listener);
+    }
+
+    @Override
+    public LaunchReadScope openReadScope() {
+        return repositoryPort.openReadScope();
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> getLaunchByIdAsync(String id) {
+        return asyncRepositoryPort.findByIdAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> getLaunchByIdAsync(String id, Set<LaunchField> fields) {
+        return asyncRepositoryPort.findByIdAsync(id, fields);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> getAllLaunchesAsync(Set<LaunchField> fields) {
+        return asyncRepositoryPort.findAllAsync(fields);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> getLaunchesByStatusAsync(String status, Set<LaunchField> fields) {
+        return asyncRepositoryPort.findByStatusAsync(status, fields);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> getLaunchesByRocketAsync(String rocketId, Set<LaunchField> fields) {
+        return asyncRepositoryPort.findByRocketIdAsync(rocketId, fields);
+    }
 }
@@ -0,0 +1,43 @@
+package io.github.cristhianm30.spacex_launches_back.domain.util.constant;
+
+public final class CacheConstants {
+
+    private CacheConstants() {
+    }
+
+    public static final String REFRESH_THREAD_NAME = "launch-cache-refresh";
+    public static final String EVENTS_HEARTBEAT_THREAD_NAME = "launch-events-heartbeat";
+
+    // Metrics
+    public static final String METRIC_CACHE_REQUESTS = "launches.cache.requests";
+    public static final String METRIC_CACHE_REFRESHES = "launches.cache.refreshes";
+    public static final String METRIC_CACHE_REFRESH_DURATION = "launches.cache.refresh.duration";
+    public static final String METRIC_CACHE_SIZE = "launches.cache.size";
+    public static final String METRIC_CACHE_AGE = "launches.cache.age.seconds";
+    public static final String METRIC_CACHE_CHANGES_APPLIED = "launches.cache.changes.applied";
+    public static final String TAG_RESULT = "result";
+    public static final String RESULT_HIT = "hit";
+    public static final String RESULT_MISS = "miss";
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_FAILURE = "failure";
+    public static final String METRIC_RESPONSE_STORE_REQUESTS = "launches.response.store.requests";
+    public static final String METRIC_RESPONSE_STORE_BYTES = "launches.response.store.bytes";
+    public static final String METRIC_RESPONSE_STORE_EVICTIONS = "launches.response.store.evictions";
+    public static final String TAG_ENCODING = "encoding";
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_IDENTITY = "identity";
+    public static final String METRIC_EVENTS_SUBSCRIBERS = "launches.events.subscribers";
+    public static final String METRIC_EVENTS_DROPPED = "launches.events.dropped";
+
+    // Log Messages
+    public static final String REFRESH_FAILED = "Launch cache refresh failed, keeping previous snapshot";
+    public static final String REFRESH_COMPLETED = "Launch cache refreshed with {} launches (version {})";
+    public static final String UPDATE_LISTENER_FAILED = "Launch update listener failed";
+    public static final String EVENT_SERIALIZATION_FAILED = "Could not serialize launch update event";
+    public static final String SNAPSHOT_FILE_LOADED = "Launch cache loaded {} launches from {} written at {}, refreshing in background";
+    public static final String SNAPSHOT_FILE_LOAD_FAILED = "Could not load launch snapshot file {}, loading from DynamoDB";
+    public static final String SNAPSHOT_FILE_WRITE_FAILED = "Could not write launch snapshot file {}";
+
+    // Error Messages
+    public static final String SNAPSHOT_FILE_INVALID = "Invalid or corrupted launch snapshot file: ";
+}
@@ -0,0 +1,21 @@
+package io.github.cristhianm30.spacex_launches_back.domain.util.constant;
+
+public final class ChangeFeedConstants {
+
+    private ChangeFeedConstants() {
+    }
+
+    public static final String POLL_THREAD_NAME = "launch-change-feed";
+    public static final int GET_RECORDS_LIMIT = 1000;
+
+    // Metrics
+    public static final String METRIC_CHANGES_RECEIVED = "launches.change.feed.records";
+
+    // Log Messages
+    public static final String STREAM_NOT_ENABLED = "Table {} has no stream enabled, change feed is disabled";
+    public static final String STREAM_ATTACHED = "Change feed attached to stream {}";
+    public static final String POLL_FAILED = "Change feed poll failed, retrying on next interval";
+    public static final String RECORD_WITHOUT_IMAGE = "Skipping {} record for launch {} without a new image; the stream view type must include NEW_IMAGE";
+    public static final String LISTENER_FAILED = "Change feed listener failed";
+    public static final String SHARD_TRIMMED = "Stream records of shard {} were trimmed before they were read, resuming from the latest record and reloading";
+}
@@ -6,6 +6,37 @@ public final class DatabaseConstants {
     }
     
     public static final String SPACEX_LAUNCHES_TABLE = "spacex-launches";
+    public static final String STATUS_INDEX = "status-launch_id-index";
+    public static final String ROCKET_ID_INDEX = "rocket_id-launch_id-index";
+    public static final long INDEX_RETRY_AFTER_SECONDS = 300;
+
+    // Batch Get
+    public static final int BATCH_GET_MAX_KEYS = 100;
+    public static final int BATCH_GET_MAX_IDS = 1000;
+    public static final int BATCH_GET_MAX_CONCURRENT_CHUNKS = 4;
+    public static final int BATCH_GET_MAX_ATTEMPTS = 5;
+    public static final long BATCH_GET_BASE_BACKOFF_MILLIS = 50;
+
+    // Attribute Names
+    public static final String ATTR_LAUNCH_ID = "launch_id";
+    public static final String ATTR_MISSION_NAME = "mission_name";
+    public static final String ATTR_FLIGHT_NUMBER = "flight_number";
+    public static final String ATTR_LAUNCH_DATE_UTC = "launch_date_utc";
+    public static final String ATTR_SUCCESS = "success";
+    public static final String ATTR_DETAILS = "details";
+    public static final String ATTR_ROCKET_ID = "rocket_id";
+    public static final String ATTR_LAUNCHPAD_ID = "launchpad_id";
+    public static final String ATTR_PAYLOADS = "payloads";
+    public static final String ATTR_PATCH_SMALL_LINK = "patch_small_link";
+    public static final String ATTR_PATCH_LARGE_LINK = "patch_large_link";
+    public static final String ATTR_WEBCAST_LINK = "webcast_link";
+    public static final String ATTR_ARTICLE_LINK = "article_link";
+    public static final String ATTR_WIKIPEDIA_LINK = "wikipedia_link";
+    public static final String ATTR_STATUS = "status";
+
+    // Cursors
+    public static final String CURSOR_ORDER = "_order";
+    public static final String CURSOR_ORDER_LAUNCH_DATE = "launch_date";
     
     // Error Messages
     public static final String LAUNCH_ID_NULL_OR_EMPTY = "Launch ID cannot be null or empty";
@@ -13,10 +44,23 @@ public final class DatabaseConstants {
     public static final String INVALID_PAGINATION_PARAMS = "Invalid pagination parameters: page number must be >= 0 and page size must be > 0";
     public static final String STATUS_NULL_OR_EMPTY = "Status cannot be null or empty";
     public static final String ROCKET_ID_NULL_OR_EMPTY = "Rocket ID cannot be null or empty";
+    public static final String LAUNCH_IDS_NULL_OR_EMPTY = "Launch IDs cannot be null, empty or contain blank values";
+    public static final String TOO_MANY_LAUNCH_IDS = "At most " + BATCH_GET_MAX_IDS + " launch IDs can be requested at once";
+    public static final String INVALID_CURSOR = "Invalid pagination cursor";
     
     public static final String ERROR_RETRIEVING_LAUNCH_BY_ID = "Error retrieving launch with ID: ";
     public static final String ERROR_RETRIEVING_ALL_LAUNCHES = "Error retrieving all launches";
     public static final String ERROR_RETRIEVING_PAGINATED_LAUNCHES = "Error retrieving paginated launches";
     public static final String ERROR_RETRIEVING_LAUNCHES_BY_STATUS = "Error retrieving launches by status: ";
     public static final String ERROR_RETRIEVING_LAUNCHES_BY_ROCKET_ID = "Error retrieving launches by rocket ID: ";
+    public static final String ERROR_RETRIEVING_LAUNCHES_BY_IDS = "Error retrieving launches by IDs";
+    public static final String ERROR_UNPROCESSED_KEYS = "Batch get still had unprocessed keys after retries: ";
+
+    // Metrics
+    public static final String METRIC_COALESCED_READS = "launches.repository.coalesced";
+    public static final String METRIC_IN_FLIGHT_READS = "launches.repository.in.flight";
+    public static final String TAG_OPERATION = "operation";
+
+    // Log Messages
+    public static final String INDEX_UNAVAILABLE = "Index {} is not available, falling back to table scan";
 }
@@ -7,12 +7,43 @@ public final class EndpointConstants {
     
     public static final String LAUNCHES_BASE = "/launches";
     public static final String PAGINATED = "/paginated";
+    public static final String SEARCH = "/search";
+    public static final String SEARCH_TEXT = "/search/text";
+    public static final String EVENTS = "/events";
     public static final String STATUS_PATH = "/status/{status}";
     public static final String ROCKET_PATH = "/rocket/{rocketId}";
     public static final String SUCCESSFUL = "/successful";
     public static final String FAILED = "/failed";
     public static final String STATS = "/stats";
+    public static final String STATS_TIME_SERIES = "/stats/timeseries";
+    public static final String DATE_RANGE = "/range";
+    public static final String UPCOMING = "/upcoming";
+    public static final String LATEST = "/latest";
+    public static final String BATCH = "/batch";
     public static final String ID_PATH = "/{id}";
+    public static final String ID_VARIABLE = "id";
+    public static final String ALL_SUBPATHS = "/**";
+    public static final String SERVLET_SUBPATHS = "/*";
     
     public static final String CORS_ORIGINS = "*";
+
+    public static final String ETAG_ATTRIBUTE = "launches.etag";
+    public static final String READ_SCOPE_ATTRIBUTE = "launches.readScope";
+    public static final String STORE_ETAG_ATTRIBUTE = "launches.storeEtag";
+    public static final String ANY_ETAG = "*";
+    public static final String WEAK_ETAG_PREFIX = "W/";
+    public static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    public static final String UPDATE_EVENT = "launch-update";
+    public static final String HEARTBEAT_COMMENT = "keep-alive";
+
+    public static final String FIELDS_PARAM = "fields";
+    public static final String FIELDS_FILTER = "launchFields";
+    public static final String INVALID_FIELD = "Invalid field: ";
+    public static final String INVALID_SORT = "Invalid sort: ";
+    public static final String INVALID_TEXT_QUERY = "q must not be blank";
+    public static final String INVALID_WINDOW = "window must be between 1 and 120 months";
+    public static final String INVALID_LIMIT = "Limit must be greater than zero";
+    public static final String INVALID_FLIGHT_NUMBER_RANGE = "minFlightNumber cannot be greater than maxFlightNumber";
+    public static final String INVALID_DATE_RANGE = "from cannot be after to";
 }
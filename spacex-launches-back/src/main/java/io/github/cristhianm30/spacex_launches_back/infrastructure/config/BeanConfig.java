@@ -1,5 +1,6 @@
 package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
 
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
 import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
 import io.github.cristhianm30.spacex_launches_back.domain.usecase.LaunchUseCase;
 import org.springframework.context.annotation.Bean;
@@ -9,7 +10,8 @@ import org.springframework.context.annotation.Configuration;
 public class BeanConfig {
 
     @Bean
-    public LaunchUseCase spaceXLaunchUseCase(LaunchRepositoryPort repositoryPort) {
-        return new LaunchUseCase(repositoryPort);
+    public LaunchUseCase spaceXLaunchUseCase(LaunchRepositoryPort repositoryPort,
+                                             LaunchAsyncRepositoryPort asyncRepositoryPort) {
+        return new LaunchUseCase(repositoryPort, asyncRepositoryPort);
     }
 }
@@ -1,20 +1,30 @@
 package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 
 @Configuration
+@EnableConfigurationProperties(LaunchDynamoDbProperties.class)
 public class DynamoDbConfig {
 
     @Bean
-    public DynamoDbClient dynamoDbClient() {
-        return DynamoDbClient.builder()
+    public DynamoDbClient dynamoDbClient(LaunchDynamoDbProperties properties) {
+        return withEndpoint(DynamoDbClient.builder(), properties)
                 .region(Region.US_EAST_1)
                 .credentialsProvider(DefaultCredentialsProvider.builder().build())
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(properties.syncMaxConnections()))
                 .build();
     }
 
@@ -24,4 +34,33 @@ public class DynamoDbConfig {
                 .dynamoDbClient(dynamoDbClient)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public DynamoDbStreamsClient dynamoDbStreamsClient(LaunchDynamoDbProperties properties) {
+        return withEndpoint(DynamoDbStreamsClient.builder(), properties)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(DefaultCredentialsProvider.builder().build())
+                .build();
+    }
+
+    @Bean
+    public DynamoDbAsyncClient dynamoDbAsyncClient(LaunchDynamoDbProperties properties) {
+        return withEndpoint(DynamoDbAsyncClient.builder(), properties)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(DefaultCredentialsProvider.builder().build())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(properties.asyncMaxConcurrency()))
+                .build();
+    }
+
+    @Bean
+    public DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbAsyncClient)
+                .build();
+    }
+
+    private static <B extends SdkClientBuilder<B, ?>> B withEndpoint(B builder, LaunchDynamoDbProperties properties) {
+        return properties.endpoint() == null ? builder : builder.endpointOverride(properties.endpoint());
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchChangeFeedPort;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.CachingLaunchRepository;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.CoalescingLaunchRepository;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.LaunchSnapshotFile;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@EnableConfigurationProperties(LaunchCacheProperties.class)
+public class LaunchCacheConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Primary
+    @ConditionalOnProperty(prefix = "launches.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CachingLaunchRepository cachingLaunchRepository(CoalescingLaunchRepository coalescingLaunchRepository,
+                                                           ObjectProvider<LaunchChangeFeedPort> changeFeed,
+                                                           LaunchCacheProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        LaunchSnapshotFile snapshotFile = properties.snapshotFile() == null
+                ? null : new LaunchSnapshotFile(properties.snapshotFile());
+        CachingLaunchRepository repository = new CachingLaunchRepository(
+                coalescingLaunchRepository, coalescingLaunchRepository, properties.ttl(), snapshotFile, meterRegistry);
+        changeFeed.ifAvailable(feed -> {
+            feed.subscribe(repository::apply);
+            feed.onChangesLost(repository::refresh);
+        });
+        return repository;
+    }
+}
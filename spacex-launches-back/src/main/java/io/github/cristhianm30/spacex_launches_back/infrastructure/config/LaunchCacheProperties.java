@@ -0,0 +1,15 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "launches.cache")
+public record LaunchCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("15m") Duration ttl,
+        Path snapshotFile
+) {
+}
@@ -0,0 +1,27 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapper;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.DynamoDbStreamsLaunchChangeFeed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+@Configuration
+@EnableConfigurationProperties(LaunchChangeFeedProperties.class)
+public class LaunchChangeFeedConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "launches", name = {"cache.enabled", "change-feed.enabled"}, havingValue = "true", matchIfMissing = true)
+    public DynamoDbStreamsLaunchChangeFeed launchChangeFeed(DynamoDbClient dynamoDbClient,
+                                                            DynamoDbStreamsClient dynamoDbStreamsClient,
+                                                            LaunchEntityMapper launchEntityMapper,
+                                                            LaunchChangeFeedProperties properties,
+                                                            MeterRegistry meterRegistry) {
+        return new DynamoDbStreamsLaunchChangeFeed(dynamoDbClient, dynamoDbStreamsClient, launchEntityMapper,
+                properties.pollInterval(), meterRegistry);
+    }
+}
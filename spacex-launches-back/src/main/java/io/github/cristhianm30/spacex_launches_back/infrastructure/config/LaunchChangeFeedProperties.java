@@ -0,0 +1,13 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "launches.change-feed")
+public record LaunchChangeFeedProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration pollInterval
+) {
+}
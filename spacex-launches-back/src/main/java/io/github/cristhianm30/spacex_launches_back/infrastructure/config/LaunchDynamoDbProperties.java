@@ -0,0 +1,15 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+
+@ConfigurationProperties(prefix = "launches.dynamodb")
+public record LaunchDynamoDbProperties(
+        @DefaultValue("4") int scanSegments,
+        @DefaultValue("200") int asyncMaxConcurrency,
+        @DefaultValue("50") int syncMaxConnections,
+        URI endpoint
+) {
+}
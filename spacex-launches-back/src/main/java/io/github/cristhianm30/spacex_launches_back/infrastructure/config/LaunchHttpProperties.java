@@ -0,0 +1,21 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.CacheControl;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "launches.http")
+public record LaunchHttpProperties(
+        @DefaultValue("60s") Duration cacheMaxAge,
+        @DefaultValue("8MB") DataSize responseStoreMaxSize,
+        @DefaultValue("30m") Duration eventsTimeout,
+        @DefaultValue("20s") Duration eventsHeartbeat
+) {
+
+    public String cacheControl() {
+        return CacheControl.maxAge(cacheMaxAge).cachePublic().getHeaderValue();
+    }
+}
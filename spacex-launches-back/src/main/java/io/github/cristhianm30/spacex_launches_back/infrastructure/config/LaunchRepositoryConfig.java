@@ -0,0 +1,19 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.CoalescingLaunchRepository;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.DynamoDbLaunchAsyncRepository;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.DynamoDbLaunchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LaunchRepositoryConfig {
+
+    @Bean
+    public CoalescingLaunchRepository coalescingLaunchRepository(DynamoDbLaunchRepository dynamoDbLaunchRepository,
+                                                                 DynamoDbLaunchAsyncRepository dynamoDbLaunchAsyncRepository,
+                                                                 MeterRegistry meterRegistry) {
+        return new CoalescingLaunchRepository(dynamoDbLaunchRepository, dynamoDbLaunchAsyncRepository, meterRegistry);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.controller.LaunchETagInterceptor;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.controller.LaunchReadScopeInterceptor;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.controller.LaunchResponseStore;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.controller.LaunchResponseStoreFilter;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.controller.LaunchResponseStoreInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(LaunchHttpProperties.class)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final LaunchService service;
+    private final LaunchHttpProperties properties;
+    private final LaunchResponseStore responseStore;
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer launchFieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Bean
+    public FilterRegistrationBean<LaunchResponseStoreFilter> launchResponseStoreFilter() {
+        FilterRegistrationBean<LaunchResponseStoreFilter> registration =
+                new FilterRegistrationBean<>(new LaunchResponseStoreFilter(responseStore));
+        registration.addUrlPatterns(EndpointConstants.LAUNCHES_BASE,
+                EndpointConstants.LAUNCHES_BASE + EndpointConstants.SERVLET_SUBPATHS);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LaunchReadScopeInterceptor(service))
+                .addPathPatterns(EndpointConstants.LAUNCHES_BASE, EndpointConstants.LAUNCHES_BASE + EndpointConstants.ALL_SUBPATHS)
+                .excludePathPatterns(EndpointConstants.LAUNCHES_BASE + EndpointConstants.EVENTS);
+        registry.addInterceptor(new LaunchETagInterceptor(service, properties.cacheControl()))
+                .addPathPatterns(EndpointConstants.LAUNCHES_BASE, EndpointConstants.LAUNCHES_BASE + EndpointConstants.ALL_SUBPATHS)
+                .excludePathPatterns(EndpointConstants.LAUNCHES_BASE + EndpointConstants.EVENTS,
+                        EndpointConstants.LAUNCHES_BASE + EndpointConstants.UPCOMING,
+                        EndpointConstants.LAUNCHES_BASE + EndpointConstants.LATEST);
+        registry.addInterceptor(new LaunchResponseStoreInterceptor(responseStore, properties.cacheControl()))
+                .addPathPatterns(EndpointConstants.LAUNCHES_BASE, EndpointConstants.LAUNCHES_BASE + EndpointConstants.ALL_SUBPATHS)
+                .excludePathPatterns(EndpointConstants.LAUNCHES_BASE + EndpointConstants.EVENTS,
+                        EndpointConstants.LAUNCHES_BASE + EndpointConstants.UPCOMING,
+                        EndpointConstants.LAUNCHES_BASE + EndpointConstants.LATEST);
+    }
+}
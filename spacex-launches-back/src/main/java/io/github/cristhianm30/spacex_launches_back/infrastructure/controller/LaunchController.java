@@ -1,13 +1,25 @@
 package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchSummaryResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchTimeSeriesResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchUpdateResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.StatsDataResponse;
 import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchSort;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
 import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
 import io.github.cristhianm30.spacex_launches_back.domain.util.constant.LaunchStatusConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,10 +28,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping(EndpointConstants.LAUNCHES_BASE)
@@ -29,6 +51,9 @@ import java.util.List;
 public class LaunchController {
 
     private final LaunchService service;
+    private final ObjectMapper objectMapper;
+    private final LaunchHttpProperties httpProperties;
+    private final LaunchEventBroadcaster eventBroadcaster;
 
     @GetMapping(EndpointConstants.ID_PATH)
     @Operation(summary = "Obtener detalle por ID", description = "Devuelve el detalle de un lanzamiento.")
@@ -38,12 +63,43 @@ public class LaunchController {
             ),
             @ApiResponse(responseCode = "404", description = "No encontrado")
     })
-    public ResponseEntity<LaunchResponse> getLaunchById(@PathVariable String id) {
-        return service.getLaunchById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<LaunchResponse>> getLaunchById(
+            @PathVariable String id,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return service.getLaunchByIdAsync(id, LaunchField.parse(fields, LaunchField.ALL))
+                .thenApply(launch -> launch
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
+    @GetMapping(EndpointConstants.BATCH)
+    @Operation(summary = "Obtener varios lanzamientos por ID", description = "Devuelve el detalle de los lanzamientos solicitados en el mismo orden de los IDs. Los IDs inexistentes se omiten.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lanzamientos encontrados",
+                    content = @Content(schema = @Schema(implementation = LaunchResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "IDs vacíos o más de " + DatabaseConstants.BATCH_GET_MAX_IDS)
+    })
+    public ResponseEntity<List<LaunchResponse>> getLaunchesByIds(
+            @Parameter(description = "IDs de los lanzamientos separados por comas", required = true)
+            @RequestParam List<String> ids) {
+        return ResponseEntity.ok(service.getLaunchesByIds(ids));
+    }
+
+    @PostMapping(EndpointConstants.BATCH)
+    @Operation(summary = "Obtener varios lanzamientos por ID (POST)", description = "Igual que GET /batch pero recibe los IDs como un arreglo JSON en el cuerpo, útil para listas largas.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lanzamientos encontrados",
+                    content = @Content(schema = @Schema(implementation = LaunchResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "IDs vacíos o más de " + DatabaseConstants.BATCH_GET_MAX_IDS)
+    })
+    public ResponseEntity<List<LaunchResponse>> postLaunchesByIds(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(service.getLaunchesByIds(ids));
+    }
+
+    @StoredResponse
     @GetMapping
     @Operation(summary = "Obtener todos los lanzamientos", description = "Devuelve una lista con todos los lanzamientos disponibles.")
     @ApiResponses({
@@ -51,12 +107,167 @@ public class LaunchController {
                     content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
             )
     })
-    public ResponseEntity<List<LaunchSummaryResponse>> getAllLaunches() {
-        return ResponseEntity.ok(service.getAllLaunches());
+    public CompletableFuture<ResponseEntity<List<LaunchSummaryResponse>>> getAllLaunches(
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return service.getAllLaunchesAsync(LaunchField.parse(fields, LaunchField.SUMMARY)).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Transmitir todos los lanzamientos (NDJSON)", description = "Con Accept: application/x-ndjson devuelve un lanzamiento por línea, escrito a medida que se lee, sin construir la lista completa en memoria.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Flujo de lanzamientos",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = LaunchSummaryResponse.class))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllLaunches(
+            @RequestAttribute(name = EndpointConstants.ETAG_ATTRIBUTE, required = false) String etag) {
+        ObjectWriter writer = objectMapper.writerFor(LaunchSummaryResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        // The body is written after the read scope closes, so with an ETag the launch list of the version the ETag
+        // describes is captured here and each launch is mapped as its line is written; without one they are
+        // streamed from DynamoDB as they arrive.
+        Stream<LaunchSummaryResponse> launches = etag != null ? service.getAllLaunchesLazily() : null;
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator generator = writer.createGenerator(output)) {
+                Consumer<LaunchSummaryResponse> writeLine = launch -> {
+                    try {
+                        writer.writeValue(generator, launch);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                };
+                if (launches != null) {
+                    launches.forEach(writeLine);
+                } else {
+                    service.streamAllLaunches(writeLine);
+                }
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .varyBy(HttpHeaders.ACCEPT);
+        if (etag != null) {
+            response.eTag(etag).header(HttpHeaders.CACHE_CONTROL, httpProperties.cacheControl());
+        }
+        return response.body(body);
+    }
+
+    @StoredResponse
+    @GetMapping(EndpointConstants.SEARCH)
+    @Operation(summary = "Buscar lanzamientos", description = "Filtra por estado, cohete, plataforma, rango de número de vuelo y rango de fechas, ordena y limita en el servidor. Sin limit devuelve todas las coincidencias.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lanzamientos que cumplen los filtros",
+                    content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
+            )
+    })
+    public ResponseEntity<List<LaunchSummaryResponse>> searchLaunches(
+            @Parameter(description = "Estado del lanzamiento (success, failed, upcoming)")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "ID del cohete")
+            @RequestParam(required = false) String rocketId,
+            @Parameter(description = "ID de la plataforma de lanzamiento")
+            @RequestParam(required = false) String launchpadId,
+            @Parameter(description = "Número de vuelo mínimo (inclusive)")
+            @RequestParam(required = false) Integer minFlightNumber,
+            @Parameter(description = "Número de vuelo máximo (inclusive)")
+            @RequestParam(required = false) Integer maxFlightNumber,
+            @Parameter(description = "Fecha UTC mínima (inclusive), p. ej. 2020-01-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "Fecha UTC máxima (inclusive), p. ej. 2020-12-31T23:59:59Z")
+            @RequestParam(required = false) Instant to,
+            @Parameter(description = "Orden: launchDateUtc, -launchDateUtc (por defecto), flightNumber o -flightNumber")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Número máximo de resultados")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        LaunchQuery query = new LaunchQuery(status, rocketId, launchpadId, minFlightNumber, maxFlightNumber,
+                from, to, LaunchSort.parse(sort), limit);
+        return ResponseEntity.ok(service.searchLaunches(query, LaunchField.parse(fields, LaunchField.SUMMARY)));
+    }
+
+    @GetMapping(EndpointConstants.SEARCH_TEXT)
+    @Operation(summary = "Buscar lanzamientos por texto", description = "Busca en el nombre de la misión y en los detalles sin distinguir mayúsculas ni acentos. Todas las palabras deben aparecer; la última también se acepta como prefijo. Los resultados se ordenan por relevancia, dando más peso al nombre de la misión.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lanzamientos que coinciden, del más al menos relevante",
+                    content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
+            )
+    })
+    public ResponseEntity<List<LaunchSummaryResponse>> searchLaunchesByText(
+            @Parameter(description = "Texto a buscar", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Número máximo de resultados")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return ResponseEntity.ok(service.searchLaunchesByText(new LaunchTextQuery(q, limit),
+                LaunchField.parse(fields, LaunchField.SUMMARY)));
+    }
+
+    @StoredResponse
+    @GetMapping(EndpointConstants.DATE_RANGE)
+    @Operation(summary = "Obtener lanzamientos por rango de fechas", description = "Devuelve los lanzamientos con fecha UTC dentro del rango, del más antiguo al más reciente. Sin from o sin to el rango queda abierto por ese extremo. Los lanzamientos sin fecha no se incluyen.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lanzamientos dentro del rango",
+                    content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
+            )
+    })
+    public ResponseEntity<List<LaunchSummaryResponse>> getLaunchesBetween(
+            @Parameter(description = "Fecha UTC mínima (inclusive), p. ej. 2020-01-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "Fecha UTC máxima (inclusive), p. ej. 2020-12-31T23:59:59Z")
+            @RequestParam(required = false) Instant to,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return ResponseEntity.ok(service.getLaunchesBetween(from, to, LaunchField.parse(fields, LaunchField.SUMMARY)));
+    }
+
+    @GetMapping(EndpointConstants.UPCOMING)
+    @Operation(summary = "Obtener próximos lanzamientos", description = "Devuelve los lanzamientos con fecha posterior al momento actual, del más cercano al más lejano.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Próximos lanzamientos",
+                    content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
+            )
+    })
+    public ResponseEntity<List<LaunchSummaryResponse>> getUpcomingLaunches(
+            @Parameter(description = "Número máximo de resultados (por defecto 10)")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return ResponseEntity.ok(service.getUpcomingLaunches(limit, LaunchField.parse(fields, LaunchField.SUMMARY)));
+    }
+
+    @GetMapping(EndpointConstants.LATEST)
+    @Operation(summary = "Obtener últimos lanzamientos", description = "Devuelve los lanzamientos con fecha anterior al momento actual, del más reciente al más antiguo.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Últimos lanzamientos",
+                    content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
+            )
+    })
+    public ResponseEntity<List<LaunchSummaryResponse>> getLatestLaunches(
+            @Parameter(description = "Número máximo de resultados (por defecto 10)")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return ResponseEntity.ok(service.getLatestLaunches(limit, LaunchField.parse(fields, LaunchField.SUMMARY)));
+    }
+
+    @GetMapping(value = EndpointConstants.EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suscribirse a cambios de lanzamientos (SSE)", description = "Mantiene abierto un flujo Server-Sent Events. Al conectar envía la versión y las estadísticas actuales; después, un evento launch-update con los lanzamientos nuevos, modificados o eliminados y las estadísticas recalculadas cada vez que cambian los datos.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Flujo de eventos",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = LaunchUpdateResponse.class))
+            )
+    })
+    public SseEmitter streamLaunchUpdates() {
+        return eventBroadcaster.subscribe();
     }
 
     @GetMapping(EndpointConstants.PAGINATED)
-    @Operation(summary = "Obtener lanzamientos paginados", description = "Devuelve una lista paginada de lanzamientos con filtro opcional por estado.")
+    @Operation(summary = "Obtener lanzamientos paginados", description = "Devuelve una lista paginada de lanzamientos con filtro opcional por estado. Si se envía el parámetro cursor (vacío para la primera página), la paginación se hace por continuación y la respuesta incluye nextCursor.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Lista paginada obtenida exitosamente",
                     content = @Content(schema = @Schema(implementation = Page.class))
@@ -65,11 +276,14 @@ public class LaunchController {
     public ResponseEntity<Page<LaunchSummaryResponse>> getLaunches(
             @Parameter(description = "Filtro opcional por estado del lanzamiento (success, failed, upcoming)")
             @RequestParam(required = false) String status,
-            @Parameter(description = "Parámetros de paginación (page, size, sort)")
-            Pageable pageable) {
-        return ResponseEntity.ok(service.getLaunches(status, pageable));
+            @Parameter(description = "Parámetros de paginación (pageNumber, pageSize, cursor)")
+            Pageable pageable,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return ResponseEntity.ok(service.getLaunches(status, pageable, LaunchField.parse(fields, LaunchField.SUMMARY)));
     }
 
+    @StoredResponse
     @GetMapping(EndpointConstants.STATUS_PATH)
     @Operation(summary = "Obtener lanzamientos por estado", description = "Devuelve todos los lanzamientos que coinciden con el estado especificado.")
     @ApiResponses({
@@ -77,12 +291,15 @@ public class LaunchController {
                     content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
             )
     })
-    public ResponseEntity<List<LaunchSummaryResponse>> getLaunchesByStatus(
+    public CompletableFuture<ResponseEntity<List<LaunchSummaryResponse>>> getLaunchesByStatus(
             @Parameter(description = "Estado del lanzamiento (success, failed, upcoming)", required = true)
-            @PathVariable String status) {
-        return ResponseEntity.ok(service.getLaunchesByStatus(status));
+            @PathVariable String status,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return service.getLaunchesByStatusAsync(status, LaunchField.parse(fields, LaunchField.SUMMARY)).thenApply(ResponseEntity::ok);
     }
 
+    @StoredResponse
     @GetMapping(EndpointConstants.ROCKET_PATH)
     @Operation(summary = "Obtener lanzamientos por cohete", description = "Devuelve todos los lanzamientos realizados por un cohete específico.")
     @ApiResponses({
@@ -90,12 +307,15 @@ public class LaunchController {
                     content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
             )
     })
-    public ResponseEntity<List<LaunchSummaryResponse>> getLaunchesByRocket(
+    public CompletableFuture<ResponseEntity<List<LaunchSummaryResponse>>> getLaunchesByRocket(
             @Parameter(description = "ID del cohete", required = true)
-            @PathVariable String rocketId) {
-        return ResponseEntity.ok(service.getLaunchesByRocket(rocketId));
+            @PathVariable String rocketId,
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return service.getLaunchesByRocketAsync(rocketId, LaunchField.parse(fields, LaunchField.SUMMARY)).thenApply(ResponseEntity::ok);
     }
 
+    @StoredResponse
     @GetMapping(EndpointConstants.SUCCESSFUL)
     @Operation(summary = "Obtener lanzamientos exitosos", description = "Devuelve todos los lanzamientos que fueron exitosos.")
     @ApiResponses({
@@ -103,10 +323,14 @@ public class LaunchController {
                     content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
             )
     })
-    public ResponseEntity<List<LaunchSummaryResponse>> getSuccessfulLaunches() {
-        return ResponseEntity.ok(service.getLaunchesByStatus(LaunchStatusConstants.SUCCESS));
+    public CompletableFuture<ResponseEntity<List<LaunchSummaryResponse>>> getSuccessfulLaunches(
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return service.getLaunchesByStatusAsync(LaunchStatusConstants.SUCCESS, LaunchField.parse(fields, LaunchField.SUMMARY))
+                .thenApply(ResponseEntity::ok);
     }
 
+    @StoredResponse
     @GetMapping(EndpointConstants.FAILED)
     @Operation(summary = "Obtener lanzamientos fallidos", description = "Devuelve todos los lanzamientos que fallaron.")
     @ApiResponses({
@@ -114,10 +338,14 @@ public class LaunchController {
                     content = @Content(schema = @Schema(implementation = LaunchSummaryResponse.class))
             )
     })
-    public ResponseEntity<List<LaunchSummaryResponse>> getFailedLaunches() {
-        return ResponseEntity.ok(service.getLaunchesByStatus(LaunchStatusConstants.FAILED));
+    public CompletableFuture<ResponseEntity<List<LaunchSummaryResponse>>> getFailedLaunches(
+            @Parameter(description = "Propiedades a incluir en la respuesta separadas por comas (p. ej. launchId,missionName)")
+            @RequestParam(name = EndpointConstants.FIELDS_PARAM, required = false) List<String> fields) {
+        return service.getLaunchesByStatusAsync(LaunchStatusConstants.FAILED, LaunchField.parse(fields, LaunchField.SUMMARY))
+                .thenApply(ResponseEntity::ok);
     }
 
+    @StoredResponse
     @GetMapping(EndpointConstants.STATS)
     @Operation(summary = "Obtener estadísticas de lanzamientos", description = "Devuelve estadísticas generales sobre todos los lanzamientos.")
     @ApiResponses({
@@ -128,4 +356,18 @@ public class LaunchController {
     public ResponseEntity<StatsDataResponse> getLaunchStats() {
         return ResponseEntity.ok(service.getLaunchStats());
     }
+
+    @StoredResponse
+    @GetMapping(EndpointConstants.STATS_TIME_SERIES)
+    @Operation(summary = "Obtener serie temporal de lanzamientos", description = "Devuelve lanzamientos y tasa de éxito por mes y por año (UTC), sin huecos, y por cada mes la tasa de éxito de la ventana móvil de los últimos meses.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Serie temporal obtenida exitosamente",
+                    content = @Content(schema = @Schema(implementation = LaunchTimeSeriesResponse.class))
+            )
+    })
+    public ResponseEntity<LaunchTimeSeriesResponse> getLaunchTimeSeries(
+            @Parameter(description = "Meses de la ventana móvil (1-120, por defecto 12)")
+            @RequestParam(required = false) Integer window) {
+        return ResponseEntity.ok(service.getLaunchTimeSeries(window));
+    }
 }
@@ -0,0 +1,102 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Answers {@code If-None-Match} revalidations with {@code 304 Not Modified} before the handler runs,
+ * using the version the repository already holds in memory: per launch for {@code /launches/{id}},
+ * dataset-wide for every other read. Handlers that produce a fixed media type (the NDJSON stream)
+ * get the subtype appended so each representation has its own tag. For {@link StoredResponse} reads from clients
+ * that accept gzip, a tag for the gzip body {@link LaunchResponseStoreInterceptor} serves also matches. On a miss
+ * the ETag is left on the request for {@link LaunchETagResponseAdvice}, which only stamps it on successful bodies.
+ */
+@RequiredArgsConstructor
+public class LaunchETagInterceptor implements HandlerInterceptor {
+
+    private final LaunchService service;
+    private final String cacheControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !isRead(request)) {
+            return true;
+        }
+
+        Optional<String> version = versionOf(request);
+        if (version.isEmpty()) {
+            return true;
+        }
+
+        String etag = "\"" + version.get() + variantOf(request) + "\"";
+        String matched = matchedETag(request, handler, etag);
+        if (matched != null) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, matched);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            return false;
+        }
+
+        request.setAttribute(EndpointConstants.ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    private Optional<String> versionOf(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables == null ? null : variables.get(EndpointConstants.ID_VARIABLE);
+        return id == null ? service.getDataVersion() : service.getLaunchVersion(id);
+    }
+
+    private static String variantOf(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Set<MediaType> producible = (Set<MediaType>) request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+        return producible == null || producible.isEmpty() ? "" : "-" + producible.iterator().next().getSubtype();
+    }
+
+    private static String matchedETag(HttpServletRequest request, Object handler, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (LaunchResponseStoreInterceptor.isStored(handler)
+                && LaunchResponseStoreInterceptor.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            String gzipETag = LaunchResponseStoreInterceptor.gzipETagOf(etag);
+            if (matches(ifNoneMatch, gzipETag)) {
+                return gzipETag;
+            }
+        }
+        return matches(ifNoneMatch, etag) ? etag : null;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(EndpointConstants.WEAK_ETAG_PREFIX)) {
+                tag = tag.substring(EndpointConstants.WEAK_ETAG_PREFIX.length());
+            }
+            if (tag.equals(EndpointConstants.ANY_ETAG) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@RestControllerAdvice(assignableTypes = LaunchController.class)
+@RequiredArgsConstructor
+public class LaunchETagResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final LaunchHttpProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value()
+                && servletRequest.getServletRequest().getAttribute(EndpointConstants.ETAG_ATTRIBUTE) instanceof String etag) {
+            response.getHeaders().setETag(etag);
+            response.getHeaders().setCacheControl(properties.cacheControl());
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return body;
+    }
+}
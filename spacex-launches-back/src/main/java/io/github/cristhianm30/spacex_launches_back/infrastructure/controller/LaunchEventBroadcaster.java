@@ -0,0 +1,199 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchUpdateResponse;
+import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.CacheConstants;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes {@link LaunchUpdateResponse} events to {@code /launches/events} subscribers. Idle streams hold no thread:
+ * each update is serialized once, then written to every subscriber from a virtual thread, in publish order per
+ * subscriber. A subscriber that falls {@value #MAX_BACKLOG} events behind is disconnected instead of buffering
+ * without bound. A comment line every {@code eventsHeartbeat} keeps proxies from closing idle streams.
+ * A new subscriber is queued its initial snapshot event before it joins, under the same lock as {@link #publish},
+ * so it never sees an update ahead of that event and never misses one published after it.
+ */
+@Slf4j
+@Component
+public class LaunchEventBroadcaster implements SmartLifecycle {
+
+    static final int MAX_BACKLOG = 32;
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT =
+            SseEmitter.event().comment(EndpointConstants.HEARTBEAT_COMMENT).build();
+
+    private final LaunchService service;
+    private final ObjectMapper objectMapper;
+    private final LaunchHttpProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Object publishLock = new Object();
+    private final Counter dropped;
+    private ScheduledExecutorService heartbeat;
+    private volatile boolean running;
+
+    public LaunchEventBroadcaster(LaunchService service, ObjectMapper objectMapper, LaunchHttpProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.dropped = meterRegistry.counter(CacheConstants.METRIC_EVENTS_DROPPED);
+        Gauge.builder(CacheConstants.METRIC_EVENTS_SUBSCRIBERS, subscribers, Set::size).register(meterRegistry);
+        service.onLaunchUpdate(this::publish);
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(properties.eventsTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (publishLock) {
+            LaunchUpdateResponse current;
+            try (LaunchReadScope scope = service.openReadScope()) {
+                current = LaunchUpdateResponse.builder()
+                        .version(service.getDataVersion().orElse(null))
+                        .upserted(List.of())
+                        .removed(List.of())
+                        .stats(service.getLaunchStats())
+                        .build();
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> event = eventOf(current);
+            if (event == null || subscriber.offer(event)) {
+                subscribers.add(subscriber);
+            }
+        }
+        return emitter;
+    }
+
+    public void publish(LaunchUpdateResponse update) {
+        Set<ResponseBodyEmitter.DataWithMediaType> event = eventOf(update);
+        if (event != null) {
+            synchronized (publishLock) {
+                subscribers.forEach(subscriber -> subscriber.offer(event));
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        long period = properties.eventsHeartbeat().toMillis();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(CacheConstants.EVENTS_HEARTBEAT_THREAD_NAME).daemon().factory());
+        heartbeat.scheduleAtFixedRate(() -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)),
+                period, period, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.shutdownNow();
+        synchronized (publishLock) {
+            senders.shutdown();
+            subscribers.forEach(subscriber -> subscriber.emitter().complete());
+            subscribers.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> eventOf(LaunchUpdateResponse update) {
+        try {
+            return SseEmitter.event()
+                    .id(update.getVersion())
+                    .name(EndpointConstants.UPDATE_EVENT)
+                    .data(objectMapper.writeValueAsString(update), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn(CacheConstants.EVENT_SERIALIZATION_FAILED, e);
+            return null;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> backlog = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        /**
+         * Returns {@code false} when the subscriber is disconnected instead, because it fell too far behind or
+         * the broadcaster has stopped.
+         */
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (pending.get() >= MAX_BACKLOG) {
+                dropped.increment();
+                disconnect();
+                return false;
+            }
+            backlog.add(event);
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    subscribers.remove(this);
+                    emitter.complete();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void drain() {
+            do {
+                try {
+                    emitter.send(backlog.poll());
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(this);
+                    return;
+                }
+            } while (pending.decrementAndGet() > 0);
+        }
+
+        private void disconnect() {
+            if (subscribers.remove(this)) {
+                emitter.complete();
+            }
+        }
+    }
+}
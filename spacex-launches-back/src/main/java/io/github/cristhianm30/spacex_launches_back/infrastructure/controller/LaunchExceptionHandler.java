@@ -0,0 +1,16 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice(assignableTypes = LaunchController.class)
+public class LaunchExceptionHandler {
+
+    @ExceptionHandler(InvalidParameterException.class)
+    public ProblemDetail handleInvalidParameter(InvalidParameterException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Restricts serialized launch responses to the properties named in {@code fields}. Runs before the other
+ * advices so the response store keeps the trimmed body under the same query string.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(assignableTypes = LaunchController.class)
+public class LaunchFieldsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || body instanceof MappingJacksonValue || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+
+        Set<String> properties = propertiesOf(servletRequest.getServletRequest().getParameterValues(EndpointConstants.FIELDS_PARAM));
+        if (properties.isEmpty()) {
+            return body;
+        }
+
+        MappingJacksonValue filtered = new MappingJacksonValue(body);
+        filtered.setFilters(new SimpleFilterProvider()
+                .addFilter(EndpointConstants.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(properties)));
+        return filtered;
+    }
+
+    static Set<String> propertiesOf(String[] values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return Arrays.stream(values)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(property -> !property.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
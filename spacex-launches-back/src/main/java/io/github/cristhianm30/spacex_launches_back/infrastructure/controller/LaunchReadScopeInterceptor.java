@@ -0,0 +1,44 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Opens a {@link LaunchReadScope} for the whole request, so the ETag computed before the handler, the body the
+ * handler reads and the stored copy of that body all come from the same data version even if a refresh lands
+ * in between. Registered ahead of the other launch interceptors and closed as soon as the request thread is
+ * released, including when the handler switches to async processing.
+ */
+@RequiredArgsConstructor
+public class LaunchReadScopeInterceptor implements AsyncHandlerInterceptor {
+
+    private final LaunchService service;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(EndpointConstants.READ_SCOPE_ATTRIBUTE, service.openReadScope());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        close(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        close(request);
+    }
+
+    private static void close(HttpServletRequest request) {
+        if (request.getAttribute(EndpointConstants.READ_SCOPE_ATTRIBUTE) instanceof LaunchReadScope scope) {
+            request.removeAttribute(EndpointConstants.READ_SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
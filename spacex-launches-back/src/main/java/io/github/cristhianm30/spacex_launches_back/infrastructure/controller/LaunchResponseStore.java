@@ -0,0 +1,114 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.CacheConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized bodies of {@link StoredResponse} reads, one entry per request path and query string
+ * holding the JSON bytes and their gzip encoding for the ETag they were built at. Compression runs once per
+ * data version; an entry whose ETag no longer matches is replaced on the next miss. The store is bounded by
+ * the total size of the bytes it holds and evicts least recently served entries first.
+ */
+@Component
+public class LaunchResponseStore {
+
+    private final long maxBytes;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final Counter gzipHits;
+    private final Counter identityHits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public LaunchResponseStore(LaunchHttpProperties properties, MeterRegistry meterRegistry) {
+        this.maxBytes = properties.responseStoreMaxSize().toBytes();
+        this.gzipHits = meterRegistry.counter(CacheConstants.METRIC_RESPONSE_STORE_REQUESTS,
+                CacheConstants.TAG_RESULT, CacheConstants.RESULT_HIT, CacheConstants.TAG_ENCODING, CacheConstants.ENCODING_GZIP);
+        this.identityHits = meterRegistry.counter(CacheConstants.METRIC_RESPONSE_STORE_REQUESTS,
+                CacheConstants.TAG_RESULT, CacheConstants.RESULT_HIT, CacheConstants.TAG_ENCODING, CacheConstants.ENCODING_IDENTITY);
+        this.misses = meterRegistry.counter(CacheConstants.METRIC_RESPONSE_STORE_REQUESTS,
+                CacheConstants.TAG_RESULT, CacheConstants.RESULT_MISS);
+        this.evictions = meterRegistry.counter(CacheConstants.METRIC_RESPONSE_STORE_EVICTIONS);
+        Gauge.builder(CacheConstants.METRIC_RESPONSE_STORE_BYTES, this, LaunchResponseStore::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<Entry> get(String key, String etag, boolean gzip) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.etag().equals(etag)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        (gzip ? gzipHits : identityHits).increment();
+        return Optional.of(entry);
+    }
+
+    public void put(String key, String etag, byte[] json) {
+        Entry entry = new Entry(etag, json, gzip(json));
+        if (entry.size() > maxBytes) {
+            return;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            bytes += entry.size() - (previous == null ? 0 : previous.size());
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                if (evicted == entry) {
+                    continue;
+                }
+                eldest.remove();
+                bytes -= evicted.size();
+                evictions.increment();
+            }
+        }
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long size() {
+        return bytes;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            output.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    public record Entry(String etag, byte[] json, byte[] gzip) {
+
+        long size() {
+            return (long) json.length + gzip.length;
+        }
+    }
+}
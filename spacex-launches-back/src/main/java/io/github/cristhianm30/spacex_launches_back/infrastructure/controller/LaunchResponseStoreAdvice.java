@@ -0,0 +1,41 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks successful JSON bodies of {@link StoredResponse} reads, missed by {@link LaunchResponseStoreInterceptor},
+ * for storing under the ETag they are served with. The body is not serialized here: {@link LaunchResponseStoreFilter}
+ * copies the bytes the message converter writes, field filters included.
+ */
+@RestControllerAdvice(assignableTypes = LaunchController.class)
+public class LaunchResponseStoreAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(StoredResponse.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body != null && MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)
+                && request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value()
+                && servletRequest.getServletRequest().getAttribute(EndpointConstants.ETAG_ATTRIBUTE) instanceof String etag) {
+            servletRequest.getServletRequest().setAttribute(EndpointConstants.STORE_ETAG_ATTRIBUTE, etag);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Copies the JSON bytes of a {@link StoredResponse} read into {@link LaunchResponseStore} as the message converter
+ * writes them to the client, so a store miss serializes its body once. Only bodies that
+ * {@link LaunchResponseStoreAdvice} marked before they were written are copied; every other response, streams
+ * included, writes straight through. Async handlers write their body in the async dispatch, so the filter also
+ * runs there and stores the body once that dispatch completes.
+ */
+@RequiredArgsConstructor
+public class LaunchResponseStoreFilter extends OncePerRequestFilter {
+
+    private final LaunchResponseStore store;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CapturingResponse capturing = WebUtils.getNativeResponse(response, CapturingResponse.class);
+        if (capturing == null) {
+            capturing = new CapturingResponse(request, response, store.maxBytes());
+            response = capturing;
+        }
+        chain.doFilter(request, response);
+
+        byte[] body = capturing.captured();
+        if (body != null && !request.isAsyncStarted() && HttpMethod.GET.matches(request.getMethod())
+                && capturing.getStatus() == HttpServletResponse.SC_OK
+                && request.getAttribute(EndpointConstants.STORE_ETAG_ATTRIBUTE) instanceof String etag) {
+            store.put(LaunchResponseStoreInterceptor.keyOf(request), etag, body);
+        }
+    }
+
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final long limit;
+        private ServletOutputStream output;
+
+        private CapturingResponse(HttpServletRequest request, HttpServletResponse response, long limit) {
+            super(response);
+            this.request = request;
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (output == null) {
+                output = request.getAttribute(EndpointConstants.STORE_ETAG_ATTRIBUTE) == null
+                        ? super.getOutputStream()
+                        : new CapturingOutputStream(super.getOutputStream(), limit);
+            }
+            return output;
+        }
+
+        byte[] captured() {
+            return output instanceof CapturingOutputStream capturing ? capturing.captured() : null;
+        }
+    }
+
+    /**
+     * Writes through to the response and keeps a copy, giving up on the copy once it outgrows what the store
+     * could hold.
+     */
+    private static final class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final long limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream(1024);
+
+        private CapturingOutputStream(ServletOutputStream delegate, long limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (keep(1)) {
+                copy.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            if (keep(len)) {
+                copy.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+
+        private boolean keep(int length) {
+            if (copy != null && copy.size() + (long) length > limit) {
+                copy = null;
+            }
+            return copy != null;
+        }
+
+        byte[] captured() {
+            return copy == null ? null : copy.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.CacheConstants;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Serves {@link StoredResponse} reads straight from {@link LaunchResponseStore} when it already holds the body
+ * for the ETag resolved by {@link LaunchETagInterceptor}, gzip-encoded if the client accepts it. The gzip body is a
+ * different representation, so it gets its own strong tag with a {@code -gzip} suffix.
+ * Misses fall through to the handler; {@link LaunchResponseStoreAdvice} marks the body and
+ * {@link LaunchResponseStoreFilter} stores the bytes written for it.
+ */
+@RequiredArgsConstructor
+public class LaunchResponseStoreInterceptor implements HandlerInterceptor {
+
+    private final LaunchResponseStore store;
+    private final String cacheControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !isStored(handler)
+                || !(request.getAttribute(EndpointConstants.ETAG_ATTRIBUTE) instanceof String etag)) {
+            return true;
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        Optional<LaunchResponseStore.Entry> entry = store.get(keyOf(request), etag, gzip);
+        if (entry.isEmpty()) {
+            return true;
+        }
+
+        byte[] body = gzip ? entry.get().gzip() : entry.get().json();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, gzip ? gzipETagOf(etag) : etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, CacheConstants.ENCODING_GZIP);
+        }
+        response.setContentLength(body.length);
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+        return false;
+    }
+
+    static boolean isStored(Object handler) {
+        return handler instanceof HandlerMethod method && method.hasMethodAnnotation(StoredResponse.class);
+    }
+
+    static String gzipETagOf(String etag) {
+        return etag.substring(0, etag.length() - 1) + EndpointConstants.GZIP_ETAG_SUFFIX + '"';
+    }
+
+    static String keyOf(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(CacheConstants.ENCODING_GZIP)) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose JSON body is identical for every caller at a given data version, so
+ * {@link LaunchResponseStore} may keep it serialized and gzipped and serve it without calling the handler.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StoredResponse {
+}
@@ -1,9 +1,12 @@
 package io.github.cristhianm30.spacex_launches_back.infrastructure.entity;
 
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
 import lombok.Data;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
 import java.util.List;
 
@@ -27,6 +30,7 @@ public class LaunchEntity {
     private String status;
 
     @DynamoDbPartitionKey
+    @DynamoDbSecondarySortKey(indexNames = {DatabaseConstants.STATUS_INDEX, DatabaseConstants.ROCKET_ID_INDEX})
     @DynamoDbAttribute("launch_id")
     public String getLaunchId() {
         return launchId;
@@ -47,6 +51,7 @@ public class LaunchEntity {
         return launchDateUtc;
     }
 
+    @DynamoDbSecondaryPartitionKey(indexNames = DatabaseConstants.ROCKET_ID_INDEX)
     @DynamoDbAttribute("rocket_id")
     public String getRocketId() {
         return rocketId;
@@ -83,4 +88,10 @@ public class LaunchEntity {
         return wikipediaLink;
     }
 
+    @DynamoDbSecondaryPartitionKey(indexNames = DatabaseConstants.STATUS_INDEX)
+    @DynamoDbAttribute("status")
+    public String getStatus() {
+        return status;
+    }
+
 }
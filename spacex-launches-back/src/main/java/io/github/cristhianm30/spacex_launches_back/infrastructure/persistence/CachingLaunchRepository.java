@@ -0,0 +1,645 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.index.LaunchSnapshot;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchChange;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
+import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
+import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.CacheConstants;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps the full launch set in memory as an immutable {@link LaunchSnapshot} and refreshes it in the background
+ * every {@code ttl}, so request threads never wait on a DynamoDB scan once the first snapshot is loaded. A new
+ * snapshot is published with a single reference swap and readers never lock. Projected reads are answered with the
+ * full in-memory models; {@code fields} only narrows what the DynamoDB fallback fetches before the first snapshot
+ * exists.
+ */
+@Slf4j
+public class CachingLaunchRepository implements LaunchRepositoryPort, LaunchAsyncRepositoryPort {
+
+    private final LaunchRepositoryPort delegate;
+    private final LaunchAsyncRepositoryPort asyncDelegate;
+    private final Duration ttl;
+    private final LaunchSnapshotFile snapshotFile;
+    private volatile String writtenVersion;
+    private final AtomicReference<LaunchSnapshot> snapshot = new AtomicReference<>();
+    private final ThreadLocal<LaunchSnapshot> pinned = new ThreadLocal<>();
+    private final Object writeLock = new Object();
+    private final Object refreshLock = new Object();
+    private List<LaunchChange> changesDuringScan;
+    private final ScheduledExecutorService scheduler;
+    private final List<Consumer<LaunchUpdate>> updateListeners = new CopyOnWriteArrayList<>();
+    private final Queue<LaunchUpdate> pendingUpdates = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger unpublished = new AtomicInteger();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+    private final Timer refreshTimer;
+    private final Counter changesApplied;
+
+    public CachingLaunchRepository(LaunchRepositoryPort delegate, LaunchAsyncRepositoryPort asyncDelegate,
+                                   Duration ttl, MeterRegistry meterRegistry) {
+        this(delegate, asyncDelegate, ttl, null, meterRegistry);
+    }
+
+    public CachingLaunchRepository(LaunchRepositoryPort delegate, LaunchAsyncRepositoryPort asyncDelegate,
+                                   Duration ttl, LaunchSnapshotFile snapshotFile, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.asyncDelegate = asyncDelegate;
+        this.ttl = ttl;
+        this.snapshotFile = snapshotFile;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(CacheConstants.REFRESH_THREAD_NAME).daemon().factory());
+
+        this.hits = meterRegistry.counter(CacheConstants.METRIC_CACHE_REQUESTS, CacheConstants.TAG_RESULT, CacheConstants.RESULT_HIT);
+        this.misses = meterRegistry.counter(CacheConstants.METRIC_CACHE_REQUESTS, CacheConstants.TAG_RESULT, CacheConstants.RESULT_MISS);
+        this.refreshSuccesses = meterRegistry.counter(CacheConstants.METRIC_CACHE_REFRESHES, CacheConstants.TAG_RESULT, CacheConstants.RESULT_SUCCESS);
+        this.refreshFailures = meterRegistry.counter(CacheConstants.METRIC_CACHE_REFRESHES, CacheConstants.TAG_RESULT, CacheConstants.RESULT_FAILURE);
+        this.refreshTimer = meterRegistry.timer(CacheConstants.METRIC_CACHE_REFRESH_DURATION);
+        this.changesApplied = meterRegistry.counter(CacheConstants.METRIC_CACHE_CHANGES_APPLIED);
+        Gauge.builder(CacheConstants.METRIC_CACHE_SIZE, snapshot, ref -> ref.get() == null ? 0 : ref.get().size())
+                .register(meterRegistry);
+        Gauge.builder(CacheConstants.METRIC_CACHE_AGE, snapshot,
+                        ref -> ref.get() == null ? 0 : Duration.between(ref.get().loadedAt(), Instant.now()).toSeconds())
+                .register(meterRegistry);
+    }
+
+    /**
+     * With a {@link LaunchSnapshotFile}, serves the saved launches right away and runs the first DynamoDB refresh
+     * in the background; every refresh that changes the data, and shutdown, save the snapshot again.
+     */
+    public void start() {
+        if (loadSnapshotFile()) {
+            scheduler.execute(this::refreshSafely);
+        } else {
+            refreshSafely();
+        }
+        scheduler.scheduleWithFixedDelay(this::refreshSafely, ttl.toMillis(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+        writeSnapshotFile(snapshot.get());
+    }
+
+    /**
+     * Replaces the snapshot with a full scan. Change batches applied while the scan runs are buffered and
+     * replayed on top of its result, so a change that arrives mid-scan is not undone by older scanned data.
+     */
+    public void refresh() {
+        LaunchSnapshot next;
+        boolean publisher = false;
+        synchronized (refreshLock) {
+            synchronized (writeLock) {
+                changesDuringScan = new ArrayList<>();
+            }
+            try {
+                Timer.Sample sample = Timer.start();
+                List<LaunchModel> launches = delegate.findAll();
+                sample.stop(refreshTimer);
+                synchronized (writeLock) {
+                    LaunchSnapshot previous = snapshot.get();
+                    next = LaunchSnapshot.of(launches, previous == null ? 1 : previous.version() + 1);
+                    if (!changesDuringScan.isEmpty()) {
+                        next = next.apply(changesDuringScan);
+                    }
+                    snapshot.set(next);
+                    if (previous != null) {
+                        publisher = enqueue(next.diff(previous));
+                    }
+                }
+            } finally {
+                synchronized (writeLock) {
+                    changesDuringScan = null;
+                }
+            }
+        }
+        if (publisher) {
+            publishPending();
+        }
+        refreshSuccesses.increment();
+        log.info(CacheConstants.REFRESH_COMPLETED, next.size(), next.version());
+        writeSnapshotFile(snapshot.get());
+    }
+
+    /**
+     * Folds change-feed records into the snapshot without touching DynamoDB. Like a refresh, a batch that alters
+     * the data is published to update listeners as a {@link LaunchUpdate}, after the write lock is released.
+     */
+    public void apply(List<LaunchChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        boolean publisher;
+        synchronized (writeLock) {
+            if (changesDuringScan != null) {
+                changesDuringScan.addAll(changes);
+            }
+            LaunchSnapshot previous = snapshot.get();
+            if (previous == null) {
+                return;
+            }
+            LaunchSnapshot next = previous.apply(changes);
+            snapshot.set(next);
+            publisher = enqueue(next.update());
+        }
+        if (publisher) {
+            publishPending();
+        }
+        changesApplied.increment(changes.size());
+    }
+
+    /**
+     * Queues an update while the write lock is held, so the queue is in version order. Returns whether the caller
+     * is the one that must publish it: listeners run after the lock is released, and a thread that queues an
+     * update while another is publishing leaves it to that thread, so listeners still see updates in order.
+     */
+    private boolean enqueue(LaunchUpdate update) {
+        pendingUpdates.add(update);
+        return unpublished.getAndIncrement() == 0;
+    }
+
+    private void publishPending() {
+        do {
+            publish(pendingUpdates.poll());
+        } while (unpublished.decrementAndGet() > 0);
+    }
+
+    private void publish(LaunchUpdate update) {
+        if (update.upserted().isEmpty() && update.removed().isEmpty()) {
+            return;
+        }
+        for (Consumer<LaunchUpdate> listener : updateListeners) {
+            try {
+                listener.accept(update);
+            } catch (RuntimeException e) {
+                log.warn(CacheConstants.UPDATE_LISTENER_FAILED, e);
+            }
+        }
+    }
+
+    private boolean loadSnapshotFile() {
+        if (snapshotFile == null) {
+            return false;
+        }
+
+        try {
+            Optional<LaunchSnapshotFile.Contents> contents = snapshotFile.read();
+            if (contents.isEmpty()) {
+                return false;
+            }
+            synchronized (writeLock) {
+                LaunchSnapshot loaded = LaunchSnapshot.of(contents.get().launches(), 1, contents.get().writtenAt());
+                if (!snapshot.compareAndSet(null, loaded)) {
+                    return false;
+                }
+                writtenVersion = loaded.dataVersion();
+            }
+            log.info(CacheConstants.SNAPSHOT_FILE_LOADED, contents.get().launches().size(), snapshotFile.path(),
+                    contents.get().writtenAt());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn(CacheConstants.SNAPSHOT_FILE_LOAD_FAILED, snapshotFile.path(), e);
+            return false;
+        }
+    }
+
+    private void writeSnapshotFile(LaunchSnapshot current) {
+        if (snapshotFile == null || current == null || current.dataVersion().equals(writtenVersion)) {
+            return;
+        }
+
+        try {
+            snapshotFile.write(current.launches(), Instant.now());
+            writtenVersion = current.dataVersion();
+        } catch (IOException | RuntimeException e) {
+            log.warn(CacheConstants.SNAPSHOT_FILE_WRITE_FAILED, snapshotFile.path(), e);
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            refreshFailures.increment();
+            log.warn(CacheConstants.REFRESH_FAILED, e);
+        }
+    }
+
+    @Override
+    public Optional<LaunchModel> findById(String id) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.LAUNCH_ID_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findById(id);
+        }
+        return current.find(id);
+    }
+
+    @Override
+    public Optional<LaunchModel> findById(String id, Set<LaunchField> fields) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.LAUNCH_ID_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findById(id, fields);
+        }
+        return current.find(id);
+    }
+
+    @Override
+    public List<LaunchModel> findByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(id -> id == null || id.trim().isEmpty())) {
+            throw new InvalidParameterException(DatabaseConstants.LAUNCH_IDS_NULL_OR_EMPTY);
+        }
+        if (ids.size() > DatabaseConstants.BATCH_GET_MAX_IDS) {
+            throw new InvalidParameterException(DatabaseConstants.TOO_MANY_LAUNCH_IDS);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findByIds(ids);
+        }
+        return ids.stream()
+                .distinct()
+                .map(current::find)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public List<LaunchModel> findAll() {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findAll();
+        }
+        return current.launches();
+    }
+
+    @Override
+    public List<LaunchModel> findAll(Set<LaunchField> fields) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findAll(fields);
+        }
+        return current.launches();
+    }
+
+    @Override
+    public void streamAll(Set<LaunchField> fields, Consumer<LaunchModel> consumer) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            delegate.streamAll(fields, consumer);
+            return;
+        }
+        current.launches().forEach(consumer);
+    }
+
+    @Override
+    public Page<LaunchModel> findAll(String status, Pageable pageable) {
+        return findAll(status, pageable, LaunchField.ALL);
+    }
+
+    @Override
+    public Page<LaunchModel> findAll(String status, Pageable pageable, Set<LaunchField> fields) {
+        if (pageable == null) {
+            throw new InvalidParameterException(DatabaseConstants.PAGEABLE_NULL);
+        }
+
+        if (pageable.getPageNumber() < 0 || pageable.getPageSize() <= 0) {
+            throw new InvalidParameterException(DatabaseConstants.INVALID_PAGINATION_PARAMS);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findAll(status, pageable, fields);
+        }
+
+        boolean filtered = status != null && !status.isEmpty();
+        List<LaunchModel> launches = current.launches();
+        if (filtered) {
+            launches = filter(current.launches(), status, LaunchModel::getStatus);
+        }
+
+        if (pageable.isCursorMode()) {
+            return cursorPage(launches, pageable);
+        }
+
+        int start = (int) Math.min((long) pageable.getPageNumber() * pageable.getPageSize(), launches.size());
+        int end = Math.min(start + pageable.getPageSize(), launches.size());
+
+        return new Page<>(launches.subList(start, end), pageable.getPageNumber(), pageable.getPageSize(), launches.size());
+    }
+
+    @Override
+    public LaunchStats getStats() {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.getStats();
+        }
+        return current.stats();
+    }
+
+    @Override
+    public LaunchTimeSeries getTimeSeries(int window) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.getTimeSeries(window);
+        }
+        return current.timeSeries(window);
+    }
+
+    /**
+     * Derived from the snapshot's content hashes, so every instance serving the same launches reports the same
+     * data and per-launch versions.
+     */
+    @Override
+    public Optional<String> getDataVersion() {
+        LaunchSnapshot current = read();
+        if (current == null) {
+            return delegate.getDataVersion();
+        }
+        return Optional.of(current.dataVersion());
+    }
+
+    @Override
+    public Optional<String> getLaunchVersion(String id) {
+        LaunchSnapshot current = read();
+        if (current == null) {
+            return delegate.getLaunchVersion(id);
+        }
+        return current.launchVersion(id);
+    }
+
+    @Override
+    public void addUpdateListener(Consumer<LaunchUpdate> listener) {
+        updateListeners.add(listener);
+    }
+
+    /**
+     * Pins the current snapshot to the calling thread so several calls agree on one version; outside a scope each
+     * call reads whichever snapshot was current when it began.
+     */
+    @Override
+    public LaunchReadScope openReadScope() {
+        LaunchSnapshot current = snapshot.get();
+        if (current == null || pinned.get() != null) {
+            return LaunchReadScope.NONE;
+        }
+        pinned.set(current);
+        return pinned::remove;
+    }
+
+    @Override
+    public List<LaunchModel> findByStatus(String status) {
+        return findByStatus(status, LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findByStatus(String status, Set<LaunchField> fields) {
+        if (status == null || status.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.STATUS_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findByStatus(status, fields);
+        }
+        return filter(current.launches(), status, LaunchModel::getStatus);
+    }
+
+    @Override
+    public List<LaunchModel> findByRocketId(String rocketId) {
+        return findByRocketId(rocketId, LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findByRocketId(String rocketId, Set<LaunchField> fields) {
+        if (rocketId == null || rocketId.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.ROCKET_ID_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findByRocketId(rocketId, fields);
+        }
+        return filter(current.launches(), rocketId, LaunchModel::getRocketId);
+    }
+
+    @Override
+    public List<LaunchModel> search(LaunchQuery query, Set<LaunchField> fields) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.search(query, fields);
+        }
+        return current.index().search(query);
+    }
+
+    @Override
+    public List<LaunchModel> searchText(LaunchTextQuery query, Set<LaunchField> fields) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.searchText(query, fields);
+        }
+        return current.textIndex().search(query);
+    }
+
+    @Override
+    public List<LaunchModel> findByLaunchDateBetween(Instant from, Instant to, Set<LaunchField> fields) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findByLaunchDateBetween(from, to, fields);
+        }
+        return current.index().between(from, to);
+    }
+
+    @Override
+    public List<LaunchModel> findNextLaunches(Instant from, int limit, Set<LaunchField> fields) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findNextLaunches(from, limit, fields);
+        }
+        return current.index().next(from, limit);
+    }
+
+    @Override
+    public List<LaunchModel> findPreviousLaunches(Instant before, int limit, Set<LaunchField> fields) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return delegate.findPreviousLaunches(before, limit, fields);
+        }
+        return current.index().previous(before, limit);
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.LAUNCH_ID_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return asyncDelegate.findByIdAsync(id);
+        }
+        return CompletableFuture.completedFuture(current.find(id));
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id, Set<LaunchField> fields) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.LAUNCH_ID_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return asyncDelegate.findByIdAsync(id, fields);
+        }
+        return CompletableFuture.completedFuture(current.find(id));
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findAllAsync(Set<LaunchField> fields) {
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return asyncDelegate.findAllAsync(fields);
+        }
+        return CompletableFuture.completedFuture(current.launches());
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findByStatusAsync(String status, Set<LaunchField> fields) {
+        if (status == null || status.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.STATUS_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return asyncDelegate.findByStatusAsync(status, fields);
+        }
+        return CompletableFuture.completedFuture(filter(current.launches(), status, LaunchModel::getStatus));
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findByRocketIdAsync(String rocketId, Set<LaunchField> fields) {
+        if (rocketId == null || rocketId.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.ROCKET_ID_NULL_OR_EMPTY);
+        }
+
+        LaunchSnapshot current = current();
+        if (current == null) {
+            return asyncDelegate.findByRocketIdAsync(rocketId, fields);
+        }
+        return CompletableFuture.completedFuture(filter(current.launches(), rocketId, LaunchModel::getRocketId));
+    }
+
+    private LaunchSnapshot current() {
+        LaunchSnapshot current = read();
+        if (current == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return current;
+    }
+
+    private LaunchSnapshot read() {
+        LaunchSnapshot current = pinned.get();
+        return current != null ? current : snapshot.get();
+    }
+
+    /**
+     * Cursors issued here carry the last launch's id and date and an ordering marker. They resume right after
+     * that position in launch date order, found by binary search, so a cursor stays valid even if its launch is
+     * removed between pages. Cursors from the DynamoDB fallback follow scan order and are rejected, as the
+     * fallback rejects these.
+     */
+    private static Page<LaunchModel> cursorPage(List<LaunchModel> launches, Pageable pageable) {
+        Map<String, AttributeValue> startKey = LaunchCursorCodec.decode(pageable.getCursor());
+        int start = startKey == null ? 0 : positionAfter(launches, startKey);
+        int end = Math.min(start + pageable.getPageSize(), launches.size());
+        String nextCursor = end < launches.size() ? LaunchCursorCodec.encode(keyOf(launches.get(end - 1))) : null;
+
+        return new Page<>(launches.subList(start, end), pageable.getPageNumber(), pageable.getPageSize(),
+                Page.UNKNOWN_TOTAL, nextCursor);
+    }
+
+    private static int positionAfter(List<LaunchModel> launches, Map<String, AttributeValue> startKey) {
+        AttributeValue order = startKey.get(DatabaseConstants.CURSOR_ORDER);
+        AttributeValue launchId = startKey.get(DatabaseConstants.ATTR_LAUNCH_ID);
+        if (order == null || !DatabaseConstants.CURSOR_ORDER_LAUNCH_DATE.equals(order.s()) || launchId == null) {
+            throw new InvalidParameterException(DatabaseConstants.INVALID_CURSOR);
+        }
+
+        AttributeValue launchDate = startKey.get(DatabaseConstants.ATTR_LAUNCH_DATE_UTC);
+        LaunchModel last = LaunchModel.builder()
+                .launchId(launchId.s())
+                .launchDateUtc(launchDate == null ? null : launchDate.s())
+                .build();
+        int position = Collections.binarySearch(launches, last, LaunchModel.BY_LAUNCH_DATE);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private static Map<String, AttributeValue> keyOf(LaunchModel launch) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(DatabaseConstants.CURSOR_ORDER, AttributeValue.fromS(DatabaseConstants.CURSOR_ORDER_LAUNCH_DATE));
+        key.put(DatabaseConstants.ATTR_LAUNCH_ID, AttributeValue.fromS(launch.getLaunchId()));
+        if (launch.getLaunchDateUtc() != null) {
+            key.put(DatabaseConstants.ATTR_LAUNCH_DATE_UTC, AttributeValue.fromS(launch.getLaunchDateUtc()));
+        }
+        return key;
+    }
+
+    private static List<LaunchModel> filter(List<LaunchModel> launches, String value, Function<LaunchModel, String> attribute) {
+        return launches.stream()
+                .filter(launch -> value.equals(attribute.apply(launch)))
+                .toList();
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
+import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
+import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight wrapper: concurrent callers asking for the same read share one in-flight DynamoDB request
+ * and receive the same result (or failure). Nothing is kept once the request completes.
+ */
+public class CoalescingLaunchRepository implements LaunchRepositoryPort, LaunchAsyncRepositoryPort {
+
+    private final LaunchRepositoryPort delegate;
+    private final LaunchAsyncRepositoryPort asyncDelegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<List<Object>, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingLaunchRepository(LaunchRepositoryPort delegate, LaunchAsyncRepositoryPort asyncDelegate,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.asyncDelegate = asyncDelegate;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(DatabaseConstants.METRIC_IN_FLIGHT_READS, inFlight, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Optional<LaunchModel> findById(String id) {
+        return coalesce(key("findById", id, LaunchField.ALL), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<LaunchModel> findById(String id, Set<LaunchField> fields) {
+        return coalesce(key("findById", id, fields), () -> delegate.findById(id, fields));
+    }
+
+    @Override
+    public List<LaunchModel> findByIds(Collection<String> ids) {
+        if (ids == null) {
+            return delegate.findByIds(ids);
+        }
+        return coalesce(key("findByIds", List.copyOf(ids)), () -> delegate.findByIds(ids));
+    }
+
+    @Override
+    public List<LaunchModel> findAll() {
+        return coalesce(key("findAll", LaunchField.ALL), delegate::findAll);
+    }
+
+    @Override
+    public Page<LaunchModel> findAll(String status, Pageable pageable) {
+        return findAll(status, pageable, LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findByStatus(String status) {
+        return findByStatus(status, LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findByRocketId(String rocketId) {
+        return findByRocketId(rocketId, LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findAll(Set<LaunchField> fields) {
+        return coalesce(key("findAll", fields), () -> delegate.findAll(fields));
+    }
+
+    @Override
+    public void streamAll(Set<LaunchField> fields, Consumer<LaunchModel> consumer) {
+        delegate.streamAll(fields, consumer);
+    }
+
+    @Override
+    public Page<LaunchModel> findAll(String status, Pageable pageable, Set<LaunchField> fields) {
+        if (pageable == null) {
+            return delegate.findAll(status, pageable, fields);
+        }
+        return coalesce(key("findPage", status, pageable.getPageNumber(), pageable.getPageSize(), pageable.getCursor(), fields),
+                () -> delegate.findAll(status, pageable, fields));
+    }
+
+    @Override
+    public List<LaunchModel> findByStatus(String status, Set<LaunchField> fields) {
+        return coalesce(key("findByStatus", status, fields), () -> delegate.findByStatus(status, fields));
+    }
+
+    @Override
+    public List<LaunchModel> findByRocketId(String rocketId, Set<LaunchField> fields) {
+        return coalesce(key("findByRocketId", rocketId, fields), () -> delegate.findByRocketId(rocketId, fields));
+    }
+
+    @Override
+    public List<LaunchModel> search(LaunchQuery query, Set<LaunchField> fields) {
+        return coalesce(key("search", query, fields), () -> delegate.search(query, fields));
+    }
+
+    @Override
+    public List<LaunchModel> searchText(LaunchTextQuery query, Set<LaunchField> fields) {
+        return coalesce(key("searchText", query, fields), () -> delegate.searchText(query, fields));
+    }
+
+    @Override
+    public List<LaunchModel> findByLaunchDateBetween(Instant from, Instant to, Set<LaunchField> fields) {
+        return coalesce(key("findByLaunchDateBetween", from, to, fields),
+                () -> delegate.findByLaunchDateBetween(from, to, fields));
+    }
+
+    @Override
+    public List<LaunchModel> findNextLaunches(Instant from, int limit, Set<LaunchField> fields) {
+        return coalesce(key("findNextLaunches", from, limit, fields),
+                () -> delegate.findNextLaunches(from, limit, fields));
+    }
+
+    @Override
+    public List<LaunchModel> findPreviousLaunches(Instant before, int limit, Set<LaunchField> fields) {
+        return coalesce(key("findPreviousLaunches", before, limit, fields),
+                () -> delegate.findPreviousLaunches(before, limit, fields));
+    }
+
+    @Override
+    public LaunchStats getStats() {
+        return coalesce(key("getStats"), delegate::getStats);
+    }
+
+    @Override
+    public LaunchTimeSeries getTimeSeries(int window) {
+        return coalesce(key("getTimeSeries", window), () -> delegate.getTimeSeries(window));
+    }
+
+    @Override
+    public Optional<String> getDataVersion() {
+        return delegate.getDataVersion();
+    }
+
+    @Override
+    public Optional<String> getLaunchVersion(String id) {
+        return delegate.getLaunchVersion(id);
+    }
+
+    @Override
+    public void addUpdateListener(Consumer<LaunchUpdate> listener) {
+        delegate.addUpdateListener(listener);
+    }
+
+    @Override
+    public LaunchReadScope openReadScope() {
+        return delegate.openReadScope();
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id) {
+        return coalesceAsync(key("findById", id, LaunchField.ALL), () -> asyncDelegate.findByIdAsync(id));
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id, Set<LaunchField> fields) {
+        return coalesceAsync(key("findById", id, fields), () -> asyncDelegate.findByIdAsync(id, fields));
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findAllAsync(Set<LaunchField> fields) {
+        return coalesceAsync(key("findAll", fields), () -> asyncDelegate.findAllAsync(fields));
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findByStatusAsync(String status, Set<LaunchField> fields) {
+        return coalesceAsync(key("findByStatus", status, fields), () -> asyncDelegate.findByStatusAsync(status, fields));
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findByRocketIdAsync(String rocketId, Set<LaunchField> fields) {
+        return coalesceAsync(key("findByRocketId", rocketId, fields), () -> asyncDelegate.findByRocketIdAsync(rocketId, fields));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(List<Object> key, Supplier<T> read) {
+        CompletableFuture<T> leader = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            countCoalesced(key);
+            return await(existing);
+        }
+
+        try {
+            T result = read.get();
+            inFlight.remove(key, leader);
+            leader.complete(result);
+            return result;
+        } catch (Throwable e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> coalesceAsync(List<Object> key, Supplier<CompletableFuture<T>> read) {
+        CompletableFuture<T> leader = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            countCoalesced(key);
+            return existing.copy();
+        }
+
+        try {
+            read.get().whenComplete((result, error) -> {
+                inFlight.remove(key, leader);
+                if (error != null) {
+                    leader.completeExceptionally(error);
+                } else {
+                    leader.complete(result);
+                }
+            });
+        } catch (Throwable e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+            throw e;
+        }
+        return leader.copy();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void countCoalesced(List<Object> key) {
+        meterRegistry.counter(DatabaseConstants.METRIC_COALESCED_READS, DatabaseConstants.TAG_OPERATION, (String) key.get(0))
+                .increment();
+    }
+
+    private static List<Object> key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+}
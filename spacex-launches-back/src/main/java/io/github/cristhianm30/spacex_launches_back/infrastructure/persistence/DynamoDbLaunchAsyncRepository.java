@@ -0,0 +1,170 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.DatabaseOperationException;
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchDynamoDbProperties;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapper;
+import org.springframework.context.annotation.Fallback;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Repository
+@Fallback
+public class DynamoDbLaunchAsyncRepository implements LaunchAsyncRepositoryPort {
+
+    private final DynamoDbAsyncTable<LaunchModel> table;
+    private final int scanSegments;
+    private final LaunchIndexAvailability indexAvailability = new LaunchIndexAvailability();
+
+    public DynamoDbLaunchAsyncRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient,
+                                         LaunchEntityMapper mapper,
+                                         LaunchDynamoDbProperties properties) {
+        this.table = enhancedAsyncClient.table(DatabaseConstants.SPACEX_LAUNCHES_TABLE, new LaunchItemSchema(mapper));
+        this.scanSegments = Math.max(1, properties.scanSegments());
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id) {
+        return findByIdAsync(id, LaunchField.ALL);
+    }
+
+    @Override
+    public CompletableFuture<Optional<LaunchModel>> findByIdAsync(String id, Set<LaunchField> fields) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.LAUNCH_ID_NULL_OR_EMPTY);
+        }
+
+        Key key = Key.builder().partitionValue(id).build();
+        List<String> attributes = LaunchProjection.attributesOf(fields);
+        CompletableFuture<Optional<LaunchModel>> launch;
+        if (attributes != null) {
+            List<LaunchModel> found = new ArrayList<>(1);
+            launch = table.query(LaunchProjection.byKey(key, attributes))
+                    .items()
+                    .subscribe(found::add)
+                    .thenApply(ignored -> found.stream().findFirst());
+        } else {
+            launch = table.getItem(key)
+                    .thenApply(Optional::ofNullable);
+        }
+        return translateErrors(launch, DatabaseConstants.ERROR_RETRIEVING_LAUNCH_BY_ID + id);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findAllAsync(Set<LaunchField> fields) {
+        return translateErrors(scanAll(LaunchProjection.attributesOf(fields)), DatabaseConstants.ERROR_RETRIEVING_ALL_LAUNCHES);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findByStatusAsync(String status, Set<LaunchField> fields) {
+        if (status == null || status.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.STATUS_NULL_OR_EMPTY);
+        }
+
+        return translateErrors(queryIndexOrScan(DatabaseConstants.STATUS_INDEX, status, LaunchField.STATUS, LaunchModel::getStatus, fields),
+                DatabaseConstants.ERROR_RETRIEVING_LAUNCHES_BY_STATUS + status);
+    }
+
+    @Override
+    public CompletableFuture<List<LaunchModel>> findByRocketIdAsync(String rocketId, Set<LaunchField> fields) {
+        if (rocketId == null || rocketId.trim().isEmpty()) {
+            throw new InvalidParameterException(DatabaseConstants.ROCKET_ID_NULL_OR_EMPTY);
+        }
+
+        return translateErrors(queryIndexOrScan(DatabaseConstants.ROCKET_ID_INDEX, rocketId, LaunchField.ROCKET_ID, LaunchModel::getRocketId, fields),
+                DatabaseConstants.ERROR_RETRIEVING_LAUNCHES_BY_ROCKET_ID + rocketId);
+    }
+
+    private CompletableFuture<List<LaunchModel>> scanAll(List<String> attributes) {
+        if (scanSegments == 1) {
+            return scanSegment(ScanEnhancedRequest.builder().attributesToProject(attributes).build());
+        }
+
+        List<CompletableFuture<List<LaunchModel>>> segments = new ArrayList<>(scanSegments);
+        for (int segment = 0; segment < scanSegments; segment++) {
+            segments.add(scanSegment(ScanEnhancedRequest.builder()
+                    .segment(segment)
+                    .totalSegments(scanSegments)
+                    .attributesToProject(attributes)
+                    .build()));
+        }
+
+        return CompletableFuture.allOf(segments.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<LaunchModel> launches = new ArrayList<>();
+                    segments.forEach(segment -> launches.addAll(segment.join()));
+                    return launches;
+                });
+    }
+
+    private CompletableFuture<List<LaunchModel>> scanSegment(ScanEnhancedRequest request) {
+        List<LaunchModel> launches = new ArrayList<>();
+        return table.scan(request)
+                .items()
+                .subscribe(launches::add)
+                .thenApply(ignored -> launches);
+    }
+
+    private CompletableFuture<List<LaunchModel>> queryIndexOrScan(String indexName, String value, LaunchField keyField,
+                                                                  Function<LaunchModel, String> attribute,
+                                                                  Set<LaunchField> fields) {
+        Set<LaunchField> scanFields = LaunchProjection.including(fields, keyField, LaunchField.LAUNCH_DATE_UTC);
+        if (!indexAvailability.isAvailable(indexName)) {
+            return scanAndFilter(value, attribute, scanFields);
+        }
+
+        Set<LaunchField> indexFields = LaunchProjection.including(fields, LaunchField.LAUNCH_DATE_UTC);
+        return queryIndex(indexName, value, LaunchProjection.attributesOf(indexFields))
+                .exceptionallyCompose(error -> indexAvailability.markIfMissing(indexName, error)
+                        ? scanAndFilter(value, attribute, scanFields)
+                        : CompletableFuture.failedFuture(error));
+    }
+
+    private CompletableFuture<List<LaunchModel>> queryIndex(String indexName, String value, List<String> attributes) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(value).build()))
+                .attributesToProject(attributes)
+                .build();
+
+        List<LaunchModel> launches = new ArrayList<>();
+        return table.index(indexName)
+                .query(request)
+                .subscribe(page -> launches.addAll(page.items()))
+                .thenApply(ignored -> {
+                    launches.sort(LaunchModel.BY_LAUNCH_DATE);
+                    return launches;
+                });
+    }
+
+    private CompletableFuture<List<LaunchModel>> scanAndFilter(String value, Function<LaunchModel, String> attribute,
+                                                               Set<LaunchField> fields) {
+        return scanAll(LaunchProjection.attributesOf(fields)).thenApply(launches -> launches.stream()
+                .filter(launch -> value.equals(attribute.apply(launch)))
+                .sorted(LaunchModel.BY_LAUNCH_DATE)
+                .toList());
+    }
+
+    private static <T> CompletableFuture<T> translateErrors(CompletableFuture<T> future, String message) {
+        return future.exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return CompletableFuture.failedFuture(new DatabaseOperationException(message, cause));
+        });
+    }
+}
@@ -2,66 +2,254 @@ package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
 
 import io.github.cristhianm30.spacex_launches_back.domain.exception.DatabaseOperationException;
 import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.index.LaunchSortedIndex;
+import io.github.cristhianm30.spacex_launches_back.domain.index.LaunchTextIndex;
 import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
 import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
-import io.github.cristhianm30.spacex_launches_back.infrastructure.entity.LaunchEntity;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchDynamoDbProperties;
 import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapper;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.stereotype.Repository;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
+@Fallback
 public class DynamoDbLaunchRepository implements LaunchRepositoryPort {
 
-    private final DynamoDbTable<LaunchEntity> table;
-    private final LaunchEntityMapper mapper;
+    private static final String STATUS_NAME_PLACEHOLDER = "#status";
+    private static final String STATUS_VALUE_PLACEHOLDER = ":status";
+    private static final String STATUS_FILTER_EXPRESSION = STATUS_NAME_PLACEHOLDER + " = " + STATUS_VALUE_PLACEHOLDER;
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbTable<LaunchModel> table;
+    private final int scanSegments;
+    private final LaunchIndexAvailability indexAvailability = new LaunchIndexAvailability();
 
     public DynamoDbLaunchRepository(DynamoDbEnhancedClient enhancedClient,
-                                    LaunchEntityMapper mapper) {
-        this.table = enhancedClient.table(DatabaseConstants.SPACEX_LAUNCHES_TABLE, TableSchema.fromBean(LaunchEntity.class));
-        this.mapper = mapper;
+                                    LaunchEntityMapper mapper,
+                                    LaunchDynamoDbProperties properties) {
+        this.enhancedClient = enhancedClient;
+        this.table = enhancedClient.table(DatabaseConstants.SPACEX_LAUNCHES_TABLE, new LaunchItemSchema(mapper));
+        this.scanSegments = Math.max(1, properties.scanSegments());
     }
 
     @Override
     public Optional<LaunchModel> findById(String id) {
+        return findById(id, LaunchField.ALL);
+    }
+
+    @Override
+    public Optional<LaunchModel> findById(String id, Set<LaunchField> fields) {
         if (id == null || id.trim().isEmpty()) {
             throw new InvalidParameterException(DatabaseConstants.LAUNCH_ID_NULL_OR_EMPTY);
         }
         
         try {
             Key key = Key.builder().partitionValue(id).build();
-            LaunchEntity entity = table.getItem(key);
-            return Optional.ofNullable(entity).map(mapper::toDomain);
+            List<String> attributes = LaunchProjection.attributesOf(fields);
+            if (attributes != null) {
+                return table.query(LaunchProjection.byKey(key, attributes)).items().stream()
+                        .findFirst();
+            }
+            return Optional.ofNullable(table.getItem(key));
         } catch (Exception e) {
             throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_LAUNCH_BY_ID + id, e);
         }
     }
 
     @Override
-    public List<LaunchModel> findAll() {
+    public List<LaunchModel> findByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(id -> id == null || id.trim().isEmpty())) {
+            throw new InvalidParameterException(DatabaseConstants.LAUNCH_IDS_NULL_OR_EMPTY);
+        }
+        if (ids.size() > DatabaseConstants.BATCH_GET_MAX_IDS) {
+            throw new InvalidParameterException(DatabaseConstants.TOO_MANY_LAUNCH_IDS);
+        }
+
+        List<String> distinctIds = ids.stream().distinct().toList();
         try {
-            return table.scan(ScanEnhancedRequest.builder().build())
-                    .items()
+            Map<String, LaunchModel> found = batchGetAll(distinctIds)
                     .stream()
-                    .map(mapper::toDomain)
+                    .collect(Collectors.toMap(LaunchModel::getLaunchId, Function.identity()));
+            return distinctIds.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
                     .toList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_LAUNCHES_BY_IDS, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DatabaseOperationException cause) {
+                throw cause;
+            }
+            throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_LAUNCHES_BY_IDS, e.getCause());
+        } catch (DatabaseOperationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_LAUNCHES_BY_IDS, e);
+        }
+    }
+
+    private List<LaunchModel> batchGetAll(List<String> ids) throws InterruptedException, ExecutionException {
+        if (ids.size() <= DatabaseConstants.BATCH_GET_MAX_KEYS) {
+            return batchGet(ids);
+        }
+
+        Semaphore inFlight = new Semaphore(DatabaseConstants.BATCH_GET_MAX_CONCURRENT_CHUNKS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<LaunchModel>>> chunks = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += DatabaseConstants.BATCH_GET_MAX_KEYS) {
+                List<String> chunk = ids.subList(from, Math.min(from + DatabaseConstants.BATCH_GET_MAX_KEYS, ids.size()));
+                chunks.add(executor.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        return batchGet(chunk);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            List<LaunchModel> launches = new ArrayList<>(ids.size());
+            for (Future<List<LaunchModel>> chunk : chunks) {
+                launches.addAll(chunk.get());
+            }
+            return launches;
+        }
+    }
+
+    private List<LaunchModel> batchGet(List<String> ids) throws InterruptedException {
+        List<LaunchModel> launches = new ArrayList<>(ids.size());
+        List<Key> pending = ids.stream().map(id -> Key.builder().partitionValue(id).build()).toList();
+
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > DatabaseConstants.BATCH_GET_MAX_ATTEMPTS) {
+                throw new DatabaseOperationException(DatabaseConstants.ERROR_UNPROCESSED_KEYS + pending.size());
+            }
+            if (attempt > 1) {
+                Thread.sleep(DatabaseConstants.BATCH_GET_BASE_BACKOFF_MILLIS << (attempt - 2));
+            }
+
+            ReadBatch.Builder<LaunchModel> batch = ReadBatch.builder(LaunchModel.class).mappedTableResource(table);
+            pending.forEach(batch::addGetItem);
+            BatchGetResultPage page = enhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder()
+                            .readBatches(batch.build())
+                            .build())
+                    .iterator().next();
+
+            launches.addAll(page.resultsForTable(table));
+            pending = page.unprocessedKeysForTable(table);
+        }
+        return launches;
+    }
+
+    @Override
+    public List<LaunchModel> findAll() {
+        return findAll(LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findAll(Set<LaunchField> fields) {
+        List<String> attributes = LaunchProjection.attributesOf(fields);
+        try {
+            if (scanSegments == 1) {
+                return scanSegment(ScanEnhancedRequest.builder().attributesToProject(attributes).build());
+            }
+            return parallelScan(attributes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_ALL_LAUNCHES, e);
         } catch (Exception e) {
             throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_ALL_LAUNCHES, e);
         }
     }
 
+    @Override
+    public void streamAll(Set<LaunchField> fields, Consumer<LaunchModel> consumer) {
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .attributesToProject(LaunchProjection.attributesOf(fields))
+                .build();
+        try {
+            table.scan(request)
+                    .items()
+                    .forEach(consumer);
+        } catch (Exception e) {
+            throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_ALL_LAUNCHES, e);
+        }
+    }
+
+    private List<LaunchModel> parallelScan(List<String> attributes) throws InterruptedException, ExecutionException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<LaunchModel>>> segments = new ArrayList<>(scanSegments);
+            for (int segment = 0; segment < scanSegments; segment++) {
+                ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                        .segment(segment)
+                        .totalSegments(scanSegments)
+                        .attributesToProject(attributes)
+                        .build();
+                segments.add(executor.submit(() -> scanSegment(request)));
+            }
+
+            List<LaunchModel> launches = new ArrayList<>();
+            for (Future<List<LaunchModel>> segment : segments) {
+                launches.addAll(segment.get());
+            }
+            return launches;
+        }
+    }
+
+    private List<LaunchModel> scanSegment(ScanEnhancedRequest request) {
+        return table.scan(request)
+                .items()
+                .stream()
+                .toList();
+    }
+
     @Override
     public Page<LaunchModel> findAll(String status, Pageable pageable) {
+        return findAll(status, pageable, LaunchField.ALL);
+    }
+
+    @Override
+    public Page<LaunchModel> findAll(String status, Pageable pageable, Set<LaunchField> fields) {
         if (pageable == null) {
             throw new InvalidParameterException(DatabaseConstants.PAGEABLE_NULL);
         }
@@ -71,36 +259,73 @@ public class DynamoDbLaunchRepository implements LaunchRepositoryPort {
         }
         
         try {
-            List<LaunchModel> launches = findAll();
+            if (pageable.isCursorMode()) {
+                return findPageByCursor(status, pageable, LaunchProjection.attributesOf(fields));
+            }
+
+            boolean filtered = status != null && !status.isEmpty();
+            List<LaunchModel> launches = findAll(filtered ? LaunchProjection.including(fields, LaunchField.STATUS) : fields);
 
-            if (status != null && !status.isEmpty()) {
+            if (filtered) {
                 launches = launches.stream()
                         .filter(launch -> status.equals(launch.getStatus()))
                         .collect(Collectors.toList());
             }
 
-            int start = pageable.getPageNumber() * pageable.getPageSize();
+            int start = (int) Math.min((long) pageable.getPageNumber() * pageable.getPageSize(), launches.size());
             int end = Math.min((start + pageable.getPageSize()), launches.size());
 
             return new Page<>(launches.subList(start, end), pageable.getPageNumber(), pageable.getPageSize(), launches.size());
-        } catch (DatabaseOperationException e) {
+        } catch (DatabaseOperationException | InvalidParameterException e) {
             throw e;
         } catch (Exception e) {
             throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_PAGINATED_LAUNCHES, e);
         }
     }
 
+    @Override
+    public LaunchStats getStats() {
+        return LaunchStats.of(findAll(Set.of(LaunchField.STATUS)));
+    }
+
+    @Override
+    public LaunchTimeSeries getTimeSeries(int window) {
+        return LaunchTimeSeries.of(findAll(Set.of(LaunchField.STATUS, LaunchField.LAUNCH_DATE_UTC)), window);
+    }
+
+    @Override
+    public Optional<String> getDataVersion() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void addUpdateListener(Consumer<LaunchUpdate> listener) {
+        // Reads go straight to the table, so no update is ever observed here.
+    }
+
+    @Override
+    public LaunchReadScope openReadScope() {
+        return LaunchReadScope.NONE;
+    }
+
+    @Override
+    public Optional<String> getLaunchVersion(String id) {
+        return Optional.empty();
+    }
+
     @Override
     public List<LaunchModel> findByStatus(String status) {
+        return findByStatus(status, LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findByStatus(String status, Set<LaunchField> fields) {
         if (status == null || status.trim().isEmpty()) {
             throw new InvalidParameterException(DatabaseConstants.STATUS_NULL_OR_EMPTY);
         }
         
         try {
-            return findAll()
-                    .stream()
-                    .filter(launch -> status.equals(launch.getStatus()))
-                    .toList();
+            return queryIndexOrScan(DatabaseConstants.STATUS_INDEX, status, LaunchField.STATUS, LaunchModel::getStatus, fields);
         } catch (DatabaseOperationException e) {
             throw e;
         } catch (Exception e) {
@@ -110,19 +335,147 @@ public class DynamoDbLaunchRepository implements LaunchRepositoryPort {
 
     @Override
     public List<LaunchModel> findByRocketId(String rocketId) {
+        return findByRocketId(rocketId, LaunchField.ALL);
+    }
+
+    @Override
+    public List<LaunchModel> findByRocketId(String rocketId, Set<LaunchField> fields) {
         if (rocketId == null || rocketId.trim().isEmpty()) {
             throw new InvalidParameterException(DatabaseConstants.ROCKET_ID_NULL_OR_EMPTY);
         }
         
         try {
-            return findAll()
-                    .stream()
-                    .filter(launch -> rocketId.equals(launch.getRocketId()))
-                    .toList();
+            return queryIndexOrScan(DatabaseConstants.ROCKET_ID_INDEX, rocketId, LaunchField.ROCKET_ID, LaunchModel::getRocketId, fields);
         } catch (DatabaseOperationException e) {
             throw e;
         } catch (Exception e) {
             throw new DatabaseOperationException(DatabaseConstants.ERROR_RETRIEVING_LAUNCHES_BY_ROCKET_ID + rocketId, e);
         }
     }
+
+    @Override
+    public List<LaunchModel> search(LaunchQuery query, Set<LaunchField> fields) {
+        Set<LaunchField> projection = LaunchProjection.including(fields, LaunchField.STATUS, LaunchField.ROCKET_ID,
+                LaunchField.LAUNCHPAD_ID, LaunchField.FLIGHT_NUMBER, LaunchField.LAUNCH_DATE_UTC);
+        return LaunchSortedIndex.of(findAll(projection)).search(query);
+    }
+
+    @Override
+    public List<LaunchModel> searchText(LaunchTextQuery query, Set<LaunchField> fields) {
+        Set<LaunchField> projection = LaunchProjection.including(fields, LaunchField.MISSION_NAME, LaunchField.DETAILS,
+                LaunchField.LAUNCH_DATE_UTC);
+        return LaunchTextIndex.of(findAll(projection)).search(query);
+    }
+
+    @Override
+    public List<LaunchModel> findByLaunchDateBetween(Instant from, Instant to, Set<LaunchField> fields) {
+        return dateIndex(fields).between(from, to);
+    }
+
+    @Override
+    public List<LaunchModel> findNextLaunches(Instant from, int limit, Set<LaunchField> fields) {
+        return dateIndex(fields).next(from, limit);
+    }
+
+    @Override
+    public List<LaunchModel> findPreviousLaunches(Instant before, int limit, Set<LaunchField> fields) {
+        return dateIndex(fields).previous(before, limit);
+    }
+
+    private LaunchSortedIndex dateIndex(Set<LaunchField> fields) {
+        return LaunchSortedIndex.of(findAll(LaunchProjection.including(fields, LaunchField.LAUNCH_DATE_UTC)));
+    }
+
+    private Page<LaunchModel> findPageByCursor(String status, Pageable pageable, List<String> attributes) {
+        boolean filtered = status != null && !status.isEmpty();
+        List<LaunchModel> content = new ArrayList<>();
+        Map<String, AttributeValue> lastKey = LaunchCursorCodec.decode(pageable.getCursor());
+        if (lastKey != null && lastKey.containsKey(DatabaseConstants.CURSOR_ORDER)) {
+            throw new InvalidParameterException(DatabaseConstants.INVALID_CURSOR);
+        }
+
+        do {
+            int remaining = pageable.getPageSize() - content.size();
+            software.amazon.awssdk.enhanced.dynamodb.model.Page<LaunchModel> page = filtered
+                    ? fetchStatusPage(status, remaining, lastKey, attributes)
+                    : table.scan(ScanEnhancedRequest.builder()
+                            .limit(remaining)
+                            .exclusiveStartKey(lastKey)
+                            .attributesToProject(attributes)
+                            .build())
+                    .iterator().next();
+            content.addAll(page.items());
+            lastKey = page.lastEvaluatedKey();
+        } while (content.size() < pageable.getPageSize() && lastKey != null && !lastKey.isEmpty());
+
+        return new Page<>(content, pageable.getPageNumber(), pageable.getPageSize(), Page.UNKNOWN_TOTAL,
+                LaunchCursorCodec.encode(lastKey));
+    }
+
+    private software.amazon.awssdk.enhanced.dynamodb.model.Page<LaunchModel> fetchStatusPage(
+            String status, int limit, Map<String, AttributeValue> startKey, List<String> attributes) {
+        if (indexAvailability.isAvailable(DatabaseConstants.STATUS_INDEX)) {
+            try {
+                QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                        .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(status).build()))
+                        .limit(limit)
+                        .exclusiveStartKey(startKey)
+                        .attributesToProject(attributes)
+                        .build();
+                return table.index(DatabaseConstants.STATUS_INDEX).query(request).iterator().next();
+            } catch (DynamoDbException e) {
+                if (!indexAvailability.markIfMissing(DatabaseConstants.STATUS_INDEX, e)) {
+                    throw e;
+                }
+            }
+        }
+
+        Expression statusFilter = Expression.builder()
+                .expression(STATUS_FILTER_EXPRESSION)
+                .putExpressionName(STATUS_NAME_PLACEHOLDER, DatabaseConstants.ATTR_STATUS)
+                .putExpressionValue(STATUS_VALUE_PLACEHOLDER, AttributeValue.fromS(status))
+                .build();
+        return table.scan(ScanEnhancedRequest.builder()
+                        .limit(limit)
+                        .exclusiveStartKey(startKey)
+                        .filterExpression(statusFilter)
+                        .attributesToProject(attributes)
+                        .build())
+                .iterator().next();
+    }
+
+    private List<LaunchModel> queryIndexOrScan(String indexName, String value, LaunchField keyField,
+                                               Function<LaunchModel, String> attribute, Set<LaunchField> fields) {
+        if (indexAvailability.isAvailable(indexName)) {
+            try {
+                return queryIndex(indexName, value,
+                        LaunchProjection.attributesOf(LaunchProjection.including(fields, LaunchField.LAUNCH_DATE_UTC)));
+            } catch (DynamoDbException e) {
+                if (!indexAvailability.markIfMissing(indexName, e)) {
+                    throw e;
+                }
+            }
+        }
+
+        return findAll(LaunchProjection.including(fields, keyField, LaunchField.LAUNCH_DATE_UTC))
+                .stream()
+                .filter(launch -> value.equals(attribute.apply(launch)))
+                .sorted(LaunchModel.BY_LAUNCH_DATE)
+                .toList();
+    }
+
+    private List<LaunchModel> queryIndex(String indexName, String value, List<String> attributes) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(value).build()))
+                .attributesToProject(attributes)
+                .build();
+
+        return table.index(indexName)
+                .query(request)
+                .stream()
+                .flatMap(page -> page.items().stream())
+                // The index sort key is launch_id so undated launches are indexed; restore date order here
+                .sorted(LaunchModel.BY_LAUNCH_DATE)
+                .toList();
+    }
 }
@@ -0,0 +1,232 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchChange;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchChangeFeedPort;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.ChangeFeedConstants;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamResponse;
+import software.amazon.awssdk.services.dynamodb.model.ExpiredIteratorException;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsResponse;
+import software.amazon.awssdk.services.dynamodb.model.OperationType;
+import software.amazon.awssdk.services.dynamodb.model.Record;
+import software.amazon.awssdk.services.dynamodb.model.Shard;
+import software.amazon.awssdk.services.dynamodb.model.ShardIteratorType;
+import software.amazon.awssdk.services.dynamodb.model.StreamRecord;
+import software.amazon.awssdk.services.dynamodb.model.TrimmedDataAccessException;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Polls the launch table's DynamoDB stream and hands each shard's batch of item changes to the subscribers.
+ * Shards open at start-up are read from LATEST, since the cache has just loaded a full snapshot;
+ * shards discovered later are read from TRIM_HORIZON, after their parent shard is drained.
+ * A shard iterator only moves past its records once they are published, and records trimmed before they
+ * were read are reported to the {@link #onChangesLost} listeners so they can reload.
+ */
+@Slf4j
+public class DynamoDbStreamsLaunchChangeFeed implements LaunchChangeFeedPort {
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbStreamsClient streamsClient;
+    private final LaunchItemSchema schema;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService scheduler;
+    private final Counter recordsReceived;
+    private final List<Consumer<List<LaunchChange>>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> lostListeners = new CopyOnWriteArrayList<>();
+
+    private final Map<String, String> iterators = new LinkedHashMap<>();
+    private final Set<String> finishedShards = new HashSet<>();
+    private String streamArn;
+    private boolean attached;
+
+    public DynamoDbStreamsLaunchChangeFeed(DynamoDbClient dynamoDbClient, DynamoDbStreamsClient streamsClient,
+                                           LaunchEntityMapper mapper, Duration pollInterval, MeterRegistry meterRegistry) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.streamsClient = streamsClient;
+        this.schema = new LaunchItemSchema(mapper);
+        this.pollInterval = pollInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(ChangeFeedConstants.POLL_THREAD_NAME).daemon().factory());
+        this.recordsReceived = meterRegistry.counter(ChangeFeedConstants.METRIC_CHANGES_RECEIVED);
+    }
+
+    @Override
+    public void subscribe(Consumer<List<LaunchChange>> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onChangesLost(Runnable listener) {
+        lostListeners.add(listener);
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (Exception e) {
+            log.warn(ChangeFeedConstants.POLL_FAILED, e);
+        }
+    }
+
+    void poll() {
+        if (streamArn == null) {
+            streamArn = dynamoDbClient.describeTable(request -> request.tableName(DatabaseConstants.SPACEX_LAUNCHES_TABLE))
+                    .table()
+                    .latestStreamArn();
+            if (streamArn == null) {
+                log.warn(ChangeFeedConstants.STREAM_NOT_ENABLED, DatabaseConstants.SPACEX_LAUNCHES_TABLE);
+                scheduler.shutdown();
+                return;
+            }
+            log.info(ChangeFeedConstants.STREAM_ATTACHED, streamArn);
+        }
+
+        discoverShards();
+
+        for (String shardId : new ArrayList<>(iterators.keySet())) {
+            readShard(shardId);
+        }
+    }
+
+    private void discoverShards() {
+        List<Shard> shards = new ArrayList<>();
+        String lastShardId = null;
+        do {
+            String exclusiveStartShardId = lastShardId;
+            DescribeStreamResponse response = streamsClient.describeStream(request -> request
+                    .streamArn(streamArn)
+                    .exclusiveStartShardId(exclusiveStartShardId));
+            shards.addAll(response.streamDescription().shards());
+            lastShardId = response.streamDescription().lastEvaluatedShardId();
+        } while (lastShardId != null);
+
+        for (Shard shard : shards) {
+            String shardId = shard.shardId();
+            if (iterators.containsKey(shardId) || finishedShards.contains(shardId)) {
+                continue;
+            }
+
+            boolean closed = shard.sequenceNumberRange().endingSequenceNumber() != null;
+            if (!attached && closed) {
+                finishedShards.add(shardId);
+                continue;
+            }
+            if (shard.parentShardId() != null && iterators.containsKey(shard.parentShardId())) {
+                continue;
+            }
+
+            iterators.put(shardId, shardIterator(shardId,
+                    attached ? ShardIteratorType.TRIM_HORIZON : ShardIteratorType.LATEST));
+        }
+        attached = true;
+    }
+
+    private String shardIterator(String shardId, ShardIteratorType iteratorType) {
+        return streamsClient.getShardIterator(request -> request
+                        .streamArn(streamArn)
+                        .shardId(shardId)
+                        .shardIteratorType(iteratorType))
+                .shardIterator();
+    }
+
+    private void readShard(String shardId) {
+        GetRecordsResponse response;
+        try {
+            response = streamsClient.getRecords(request -> request
+                    .shardIterator(iterators.get(shardId))
+                    .limit(ChangeFeedConstants.GET_RECORDS_LIMIT));
+        } catch (ExpiredIteratorException e) {
+            // Rediscovered on the next poll and read again from TRIM_HORIZON.
+            iterators.remove(shardId);
+            return;
+        } catch (TrimmedDataAccessException e) {
+            // Records were dropped before they were read; continue from LATEST and let the subscribers reload.
+            log.warn(ChangeFeedConstants.SHARD_TRIMMED, shardId);
+            iterators.put(shardId, shardIterator(shardId, ShardIteratorType.LATEST));
+            changesLost();
+            return;
+        }
+
+        List<LaunchChange> changes = new ArrayList<>();
+        for (Record record : response.records()) {
+            LaunchChange change = toChange(record);
+            if (change != null) {
+                changes.add(change);
+            }
+        }
+        if (!changes.isEmpty()) {
+            recordsReceived.increment(changes.size());
+            publish(changes);
+        }
+
+        if (response.nextShardIterator() == null) {
+            iterators.remove(shardId);
+            finishedShards.add(shardId);
+        } else {
+            iterators.put(shardId, response.nextShardIterator());
+        }
+    }
+
+    private LaunchChange toChange(Record record) {
+        StreamRecord data = record.dynamodb();
+        String launchId = data.keys().get(DatabaseConstants.ATTR_LAUNCH_ID).s();
+        if (record.eventName() == OperationType.REMOVE) {
+            return LaunchChange.remove(launchId);
+        }
+
+        if (!data.hasNewImage()) {
+            log.warn(ChangeFeedConstants.RECORD_WITHOUT_IMAGE, record.eventNameAsString(), launchId);
+            return null;
+        }
+
+        LaunchChange.Type type = record.eventName() == OperationType.INSERT ? LaunchChange.Type.INSERT : LaunchChange.Type.MODIFY;
+        return LaunchChange.upsert(type, schema.mapToItem(data.newImage()));
+    }
+
+    private void publish(List<LaunchChange> changes) {
+        List<LaunchChange> batch = List.copyOf(changes);
+        for (Consumer<List<LaunchChange>> listener : listeners) {
+            try {
+                listener.accept(batch);
+            } catch (Exception e) {
+                log.warn(ChangeFeedConstants.LISTENER_FAILED, e);
+            }
+        }
+    }
+
+    private void changesLost() {
+        for (Runnable listener : lostListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.warn(ChangeFeedConstants.LISTENER_FAILED, e);
+            }
+        }
+    }
+}
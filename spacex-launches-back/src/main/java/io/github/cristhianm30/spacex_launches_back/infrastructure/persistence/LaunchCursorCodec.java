@@ -0,0 +1,54 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes a DynamoDB {@code LastEvaluatedKey} as an opaque URL-safe token and back. Every key
+ * attribute of the table and its indexes is a string, so only {@code S} values are carried.
+ */
+final class LaunchCursorCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> KEY_TYPE = new TypeReference<>() {
+    };
+
+    private LaunchCursorCodec() {
+    }
+
+    static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> key = new LinkedHashMap<>();
+        lastEvaluatedKey.forEach((name, value) -> key.put(name, value.s()));
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(key));
+        } catch (Exception e) {
+            throw new IllegalStateException(DatabaseConstants.INVALID_CURSOR, e);
+        }
+    }
+
+    static Map<String, AttributeValue> decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            Map<String, String> key = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), KEY_TYPE);
+            Map<String, AttributeValue> startKey = new LinkedHashMap<>();
+            key.forEach((name, value) -> startKey.put(name, AttributeValue.fromS(value)));
+            return startKey;
+        } catch (Exception e) {
+            throw new InvalidParameterException(DatabaseConstants.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers secondary indexes that DynamoDB reported as missing so reads go straight to the scan fallback.
+ * Only the error for that specific index counts, and the mark expires so a recreated index is picked up
+ * again without a restart.
+ */
+@Slf4j
+class LaunchIndexAvailability {
+
+    private static final String VALIDATION_EXCEPTION = "ValidationException";
+    private static final String MISSING_INDEX_MESSAGE = "does not have the specified index";
+
+    private final Map<String, Long> unavailableUntil = new ConcurrentHashMap<>();
+    private final long retryAfterNanos;
+    private final LongSupplier nanoClock;
+
+    LaunchIndexAvailability() {
+        this(Duration.ofSeconds(DatabaseConstants.INDEX_RETRY_AFTER_SECONDS), System::nanoTime);
+    }
+
+    LaunchIndexAvailability(Duration retryAfter, LongSupplier nanoClock) {
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    boolean isAvailable(String indexName) {
+        Long until = unavailableUntil.get(indexName);
+        if (until == null) {
+            return true;
+        }
+        if (nanoClock.getAsLong() - until < 0) {
+            return false;
+        }
+        unavailableUntil.remove(indexName, until);
+        return true;
+    }
+
+    boolean markIfMissing(String indexName, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!(cause instanceof DynamoDbException dynamoDbException) || !isMissingIndex(dynamoDbException, indexName)) {
+            return false;
+        }
+        if (unavailableUntil.put(indexName, nanoClock.getAsLong() + retryAfterNanos) == null) {
+            log.warn(DatabaseConstants.INDEX_UNAVAILABLE, indexName);
+        }
+        return true;
+    }
+
+    private static boolean isMissingIndex(DynamoDbException e, String indexName) {
+        if (e.awsErrorDetails() == null) {
+            return false;
+        }
+        String errorMessage = e.awsErrorDetails().errorMessage();
+        return VALIDATION_EXCEPTION.equals(e.awsErrorDetails().errorCode())
+                && errorMessage != null
+                && errorMessage.contains(MISSING_INDEX_MESSAGE)
+                && errorMessage.contains(indexName);
+    }
+}
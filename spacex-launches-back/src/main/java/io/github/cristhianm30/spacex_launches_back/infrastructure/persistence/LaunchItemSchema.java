@@ -0,0 +1,123 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.entity.LaunchEntity;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapper;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads launch items straight from their attribute maps into {@link LaunchModel} in one pass, instead of
+ * populating a {@link LaunchEntity} and copying it (payload list included) through the entity mapper.
+ * Key and index metadata, attribute names and writes still come from the {@link LaunchEntity} bean schema,
+ * so queries on the secondary indexes and any put keep working unchanged.
+ */
+final class LaunchItemSchema implements TableSchema<LaunchModel> {
+
+    private static final TableSchema<LaunchEntity> ENTITY_SCHEMA = TableSchema.fromBean(LaunchEntity.class);
+
+    private final LaunchEntityMapper mapper;
+
+    LaunchItemSchema(LaunchEntityMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public LaunchModel mapToItem(Map<String, AttributeValue> item) {
+        if (item == null) {
+            return null;
+        }
+        return new LaunchModel(
+                string(item, DatabaseConstants.ATTR_LAUNCH_ID),
+                string(item, DatabaseConstants.ATTR_MISSION_NAME),
+                number(item, DatabaseConstants.ATTR_FLIGHT_NUMBER),
+                string(item, DatabaseConstants.ATTR_LAUNCH_DATE_UTC),
+                bool(item, DatabaseConstants.ATTR_SUCCESS),
+                string(item, DatabaseConstants.ATTR_DETAILS),
+                string(item, DatabaseConstants.ATTR_ROCKET_ID),
+                string(item, DatabaseConstants.ATTR_LAUNCHPAD_ID),
+                strings(item, DatabaseConstants.ATTR_PAYLOADS),
+                string(item, DatabaseConstants.ATTR_PATCH_SMALL_LINK),
+                string(item, DatabaseConstants.ATTR_PATCH_LARGE_LINK),
+                string(item, DatabaseConstants.ATTR_WEBCAST_LINK),
+                string(item, DatabaseConstants.ATTR_ARTICLE_LINK),
+                string(item, DatabaseConstants.ATTR_WIKIPEDIA_LINK),
+                string(item, DatabaseConstants.ATTR_STATUS));
+    }
+
+    @Override
+    public Map<String, AttributeValue> itemToMap(LaunchModel item, boolean ignoreNulls) {
+        return ENTITY_SCHEMA.itemToMap(mapper.toEntity(item), ignoreNulls);
+    }
+
+    @Override
+    public Map<String, AttributeValue> itemToMap(LaunchModel item, Collection<String> attributes) {
+        return ENTITY_SCHEMA.itemToMap(mapper.toEntity(item), attributes);
+    }
+
+    @Override
+    public AttributeValue attributeValue(LaunchModel item, String attributeName) {
+        return ENTITY_SCHEMA.attributeValue(mapper.toEntity(item), attributeName);
+    }
+
+    @Override
+    public TableMetadata tableMetadata() {
+        return ENTITY_SCHEMA.tableMetadata();
+    }
+
+    @Override
+    public EnhancedType<LaunchModel> itemType() {
+        return EnhancedType.of(LaunchModel.class);
+    }
+
+    @Override
+    public List<String> attributeNames() {
+        return ENTITY_SCHEMA.attributeNames();
+    }
+
+    @Override
+    public boolean isAbstract() {
+        return false;
+    }
+
+    private static AttributeValue value(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null || Boolean.TRUE.equals(value.nul()) ? null : value;
+    }
+
+    private static String string(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = value(item, name);
+        return value == null ? null : value.s();
+    }
+
+    private static Integer number(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = value(item, name);
+        return value == null || value.n() == null ? null : Integer.valueOf(value.n());
+    }
+
+    private static Boolean bool(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = value(item, name);
+        return value == null ? null : value.bool();
+    }
+
+    private static List<String> strings(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = value(item, name);
+        if (value == null || !value.hasL()) {
+            return null;
+        }
+        List<AttributeValue> elements = value.l();
+        String[] strings = new String[elements.size()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = elements.get(i).s();
+        }
+        return Arrays.asList(strings);
+    }
+}
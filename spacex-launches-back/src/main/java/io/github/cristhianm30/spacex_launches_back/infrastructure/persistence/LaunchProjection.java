@@ -0,0 +1,72 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+final class LaunchProjection {
+
+    private LaunchProjection() {
+    }
+
+    /**
+     * DynamoDB attribute names for {@code fields}, or {@code null} when every attribute is requested
+     * so callers can pass the result straight to {@code attributesToProject}.
+     */
+    static List<String> attributesOf(Set<LaunchField> fields) {
+        if (fields == null || fields.containsAll(LaunchField.ALL)) {
+            return null;
+        }
+        return fields.stream()
+                .map(LaunchProjection::attributeOf)
+                .toList();
+    }
+
+    /**
+     * GetItem in the enhanced client cannot project attributes, so projected reads by id use a
+     * key-equality query, which costs the same read capacity for a single item.
+     */
+    static QueryEnhancedRequest byKey(Key key, List<String> attributes) {
+        return QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(key))
+                .attributesToProject(attributes)
+                .build();
+    }
+
+    static Set<LaunchField> including(Set<LaunchField> fields, LaunchField... required) {
+        if (fields == null) {
+            return LaunchField.ALL;
+        }
+        EnumSet<LaunchField> projection = EnumSet.noneOf(LaunchField.class);
+        projection.addAll(fields);
+        projection.addAll(Arrays.asList(required));
+        return projection;
+    }
+
+    static String attributeOf(LaunchField field) {
+        return switch (field) {
+            case LAUNCH_ID -> DatabaseConstants.ATTR_LAUNCH_ID;
+            case MISSION_NAME -> DatabaseConstants.ATTR_MISSION_NAME;
+            case FLIGHT_NUMBER -> DatabaseConstants.ATTR_FLIGHT_NUMBER;
+            case LAUNCH_DATE_UTC -> DatabaseConstants.ATTR_LAUNCH_DATE_UTC;
+            case SUCCESS -> DatabaseConstants.ATTR_SUCCESS;
+            case DETAILS -> DatabaseConstants.ATTR_DETAILS;
+            case ROCKET_ID -> DatabaseConstants.ATTR_ROCKET_ID;
+            case LAUNCHPAD_ID -> DatabaseConstants.ATTR_LAUNCHPAD_ID;
+            case PAYLOADS -> DatabaseConstants.ATTR_PAYLOADS;
+            case PATCH_SMALL_LINK -> DatabaseConstants.ATTR_PATCH_SMALL_LINK;
+            case PATCH_LARGE_LINK -> DatabaseConstants.ATTR_PATCH_LARGE_LINK;
+            case WEBCAST_LINK -> DatabaseConstants.ATTR_WEBCAST_LINK;
+            case ARTICLE_LINK -> DatabaseConstants.ATTR_ARTICLE_LINK;
+            case WIKIPEDIA_LINK -> DatabaseConstants.ATTR_WIKIPEDIA_LINK;
+            case STATUS -> DatabaseConstants.ATTR_STATUS;
+        };
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.CacheConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * The launch set saved to a local file so a restarted instance can serve it before DynamoDB answers.
+ * A header (format version, write time, counts) is followed by a string table holding every distinct string once,
+ * then one fixed-order record per launch whose string fields are indexes into that table, so repeated statuses,
+ * rocket ids and links cost four bytes each. The file is memory-mapped for reading and a CRC32 of the content is
+ * checked before anything is decoded; files from another format version are rejected.
+ * Writes go to a temporary file that is then moved over the previous one, so readers never see a partial file.
+ */
+public class LaunchSnapshotFile {
+
+    private static final int MAGIC = 0x4C534E50;
+    private static final int FORMAT = 1;
+    private static final int NULL = -1;
+    private static final int NO_FLIGHT_NUMBER = Integer.MIN_VALUE;
+    private static final byte SUCCESS_UNKNOWN = 0;
+    private static final byte SUCCESS_FALSE = 1;
+    private static final byte SUCCESS_TRUE = 2;
+    private static final List<Function<LaunchModel, String>> LINKS = List.of(
+            LaunchModel::getPatchSmallLink, LaunchModel::getPatchLargeLink, LaunchModel::getWebcastLink,
+            LaunchModel::getArticleLink, LaunchModel::getWikipediaLink);
+
+    private final Path path;
+
+    public LaunchSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public record Contents(List<LaunchModel> launches, Instant writtenAt) {
+    }
+
+    public Optional<Contents> read() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void write(List<LaunchModel> launches, Instant writtenAt) throws IOException {
+        byte[] content = encode(launches, writtenAt);
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, content);
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static byte[] encode(List<LaunchModel> launches, Instant writtenAt) throws IOException {
+        Map<String, Integer> refs = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Function<String, Integer> ref = value -> value == null ? NULL
+                : refs.computeIfAbsent(value, key -> {
+                    strings.add(key);
+                    return strings.size() - 1;
+                });
+
+        ByteArrayOutputStream rowBytes = new ByteArrayOutputStream();
+        DataOutputStream rows = new DataOutputStream(rowBytes);
+        for (LaunchModel launch : launches) {
+            rows.writeInt(ref.apply(launch.getLaunchId()));
+            rows.writeInt(ref.apply(launch.getMissionName()));
+            rows.writeInt(launch.getFlightNumber() == null ? NO_FLIGHT_NUMBER : launch.getFlightNumber());
+            rows.writeInt(ref.apply(launch.getLaunchDateUtc()));
+            rows.writeByte(launch.getSuccess() == null ? SUCCESS_UNKNOWN
+                    : launch.getSuccess() ? SUCCESS_TRUE : SUCCESS_FALSE);
+            rows.writeInt(ref.apply(launch.getDetails()));
+            rows.writeInt(ref.apply(launch.getRocketId()));
+            rows.writeInt(ref.apply(launch.getLaunchpadId()));
+            if (launch.getPayloads() == null) {
+                rows.writeInt(NULL);
+            } else {
+                rows.writeInt(launch.getPayloads().size());
+                for (String payload : launch.getPayloads()) {
+                    rows.writeInt(ref.apply(payload));
+                }
+            }
+            for (Function<LaunchModel, String> link : LINKS) {
+                rows.writeInt(ref.apply(link.apply(launch)));
+            }
+            rows.writeInt(ref.apply(launch.getStatus()));
+        }
+
+        ByteArrayOutputStream fileBytes = new ByteArrayOutputStream(rowBytes.size() + 64);
+        DataOutputStream file = new DataOutputStream(fileBytes);
+        file.writeInt(MAGIC);
+        file.writeInt(FORMAT);
+        file.writeLong(writtenAt.toEpochMilli());
+        file.writeInt(launches.size());
+        file.writeInt(strings.size());
+        for (String value : strings) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            file.writeInt(utf8.length);
+            file.write(utf8);
+        }
+        rowBytes.writeTo(file);
+
+        CRC32 crc = new CRC32();
+        crc.update(fileBytes.toByteArray());
+        file.writeLong(crc.getValue());
+        return fileBytes.toByteArray();
+    }
+
+    private Contents decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.remaining() < Long.BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT) {
+                throw new IOException(CacheConstants.SNAPSHOT_FILE_INVALID + path);
+            }
+            int contentLength = buffer.limit() - Long.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, contentLength));
+            if (crc.getValue() != buffer.getLong(contentLength)) {
+                throw new IOException(CacheConstants.SNAPSHOT_FILE_INVALID + path);
+            }
+
+            buffer.position(2 * Integer.BYTES);
+            Instant writtenAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] utf8 = new byte[buffer.getInt()];
+                buffer.get(utf8);
+                strings[i] = new String(utf8, StandardCharsets.UTF_8);
+            }
+
+            List<LaunchModel> launches = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                LaunchModel.LaunchModelBuilder launch = LaunchModel.builder()
+                        .launchId(string(buffer, strings))
+                        .missionName(string(buffer, strings));
+                int flightNumber = buffer.getInt();
+                launch.flightNumber(flightNumber == NO_FLIGHT_NUMBER ? null : flightNumber)
+                        .launchDateUtc(string(buffer, strings));
+                byte success = buffer.get();
+                launch.success(success == SUCCESS_UNKNOWN ? null : success == SUCCESS_TRUE)
+                        .details(string(buffer, strings))
+                        .rocketId(string(buffer, strings))
+                        .launchpadId(string(buffer, strings));
+                int payloadCount = buffer.getInt();
+                if (payloadCount != NULL) {
+                    String[] payloads = new String[payloadCount];
+                    for (int p = 0; p < payloadCount; p++) {
+                        payloads[p] = string(buffer, strings);
+                    }
+                    launch.payloads(Arrays.asList(payloads));
+                }
+                launch.patchSmallLink(string(buffer, strings))
+                        .patchLargeLink(string(buffer, strings))
+                        .webcastLink(string(buffer, strings))
+                        .articleLink(string(buffer, strings))
+                        .wikipediaLink(string(buffer, strings))
+                        .status(string(buffer, strings));
+                launches.add(launch.build());
+            }
+            return new Contents(launches, writtenAt);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException(CacheConstants.SNAPSHOT_FILE_INVALID + path, e);
+        }
+    }
+
+    private static String string(ByteBuffer buffer, String[] strings) {
+        int ref = buffer.getInt();
+        return ref == NULL ? null : strings[ref];
+    }
+}
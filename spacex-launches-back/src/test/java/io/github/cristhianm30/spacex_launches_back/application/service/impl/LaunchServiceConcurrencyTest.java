@@ -0,0 +1,173 @@
+package io.github.cristhianm30.spacex_launches_back.application.service.impl;
+
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchSummaryResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.StatsDataResponse;
+import io.github.cristhianm30.spacex_launches_back.application.mapper.LaunchMapperDto;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchSort;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.usecase.LaunchUseCase;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.persistence.CachingLaunchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refreshes the cache as fast as it can while several threads read through the service. Every generation of data
+ * has its own size, status and mission name, so a response that mixes two snapshots shows up as a mismatch.
+ */
+@ExtendWith(MockitoExtension.class)
+class LaunchServiceConcurrencyTest {
+
+    private static final int REFRESHES = 50;
+    private static final int READERS = 4;
+
+    @Mock
+    private LaunchRepositoryPort delegate;
+
+    @Mock
+    private LaunchAsyncRepositoryPort asyncDelegate;
+
+    private CachingLaunchRepository repository;
+    private LaunchServiceImpl service;
+
+    private static int sizeOf(int generation) {
+        return generation % 2 == 0 ? 40 : 60;
+    }
+
+    private static String statusOf(int generation) {
+        return generation % 2 == 0 ? "success" : "failed";
+    }
+
+    private static List<LaunchModel> generation(int generation) {
+        return IntStream.range(0, sizeOf(generation))
+                .mapToObj(i -> LaunchModel.builder()
+                        .launchId(generation + "-" + i)
+                        .missionName("gen-" + generation)
+                        .flightNumber(i)
+                        .launchDateUtc(String.format("2020-01-01T00:%02d:00.000Z", i))
+                        .status(statusOf(generation))
+                        .build())
+                .toList();
+    }
+
+    private static int generationOf(List<LaunchSummaryResponse> launches) {
+        int generation = Integer.parseInt(launches.get(0).getMissionName().substring("gen-".length()));
+        for (LaunchSummaryResponse launch : launches) {
+            assertEquals("gen-" + generation, launch.getMissionName());
+            assertEquals(statusOf(generation), launch.getStatus());
+        }
+        return generation;
+    }
+
+    @BeforeEach
+    void setUp() {
+        AtomicInteger generations = new AtomicInteger();
+        when(delegate.findAll()).thenAnswer(invocation -> generation(generations.getAndIncrement()));
+        repository = new CachingLaunchRepository(delegate, asyncDelegate, Duration.ofMinutes(15), new SimpleMeterRegistry());
+        repository.refresh();
+        service = new LaunchServiceImpl(new LaunchUseCase(repository, repository), Mappers.getMapper(LaunchMapperDto.class));
+    }
+
+    @Test
+    void reads_WhileRefreshingConstantly_ShouldEachSeeOneWholeSnapshot() throws Exception {
+        // Given
+        AtomicBoolean refreshing = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        LaunchQuery latest = new LaunchQuery(null, null, null, null, null, null, null, LaunchSort.LAUNCH_DATE_DESC, null);
+        ExecutorService executor = Executors.newFixedThreadPool(READERS + 1);
+        List<Future<?>> readers = new ArrayList<>();
+
+        // When
+        Future<?> refresher = executor.submit(() -> {
+            try {
+                for (int i = 0; i < REFRESHES; i++) {
+                    repository.refresh();
+                }
+            } finally {
+                refreshing.set(false);
+            }
+        });
+        for (int r = 0; r < READERS; r++) {
+            readers.add(executor.submit(() -> {
+                do {
+                    List<LaunchSummaryResponse> all = service.getAllLaunches();
+                    assertEquals(sizeOf(generationOf(all)), all.size());
+
+                    List<LaunchSummaryResponse> searched = service.searchLaunches(latest, LaunchField.SUMMARY);
+                    assertEquals(sizeOf(generationOf(searched)), searched.size());
+
+                    List<LaunchSummaryResponse> successful = service.getLaunchesByStatus("success");
+                    assertTrue(successful.isEmpty() || successful.size() == sizeOf(generationOf(successful)));
+
+                    StatsDataResponse stats = service.getLaunchStats();
+                    assertTrue(stats.getSuccessfulLaunches() == 0 || stats.getFailedLaunches() == 0);
+                    assertEquals(stats.getTotalLaunches(), stats.getSuccessfulLaunches() + stats.getFailedLaunches());
+
+                    try (LaunchReadScope scope = service.openReadScope()) {
+                        String version = service.getDataVersion().orElseThrow();
+                        int generation = generationOf(service.getAllLaunches());
+                        StatsDataResponse scopedStats = service.getLaunchStats();
+                        assertEquals(sizeOf(generation), scopedStats.getTotalLaunches());
+                        assertEquals(version, service.getDataVersion().orElseThrow());
+                        String anyId = generation + "-0";
+                        assertTrue(service.getLaunchVersion(anyId).isPresent());
+                        assertEquals("gen-" + generation, service.getLaunchById(anyId).orElseThrow().getMissionName());
+                    }
+                    reads.incrementAndGet();
+                } while (refreshing.get());
+            }));
+        }
+
+        // Then
+        refresher.get(60, TimeUnit.SECONDS);
+        for (Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertTrue(reads.get() >= READERS);
+        assertEquals(REFRESHES, generationOf(service.getAllLaunches()));
+    }
+
+    @Test
+    void openReadScope_ShouldKeepPinnedVersionUntilClosedAndIgnoreNestedScopes() {
+        // Given
+        String before = service.getDataVersion().orElseThrow();
+
+        // When
+        try (LaunchReadScope outer = service.openReadScope()) {
+            try (LaunchReadScope inner = service.openReadScope()) {
+                repository.refresh();
+                assertEquals(before, service.getDataVersion().orElseThrow());
+            }
+            // Then
+            assertEquals(before, service.getDataVersion().orElseThrow());
+            assertEquals(sizeOf(0), service.getAllLaunches().size());
+        }
+        assertNotEquals(before, service.getDataVersion().orElseThrow());
+        assertEquals(sizeOf(1), service.getAllLaunches().size());
+    }
+}
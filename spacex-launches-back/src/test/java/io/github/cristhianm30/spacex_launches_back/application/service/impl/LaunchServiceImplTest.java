@@ -4,7 +4,9 @@ import io.github.cristhianm30.spacex_launches_back.application.dto.response.Laun
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchSummaryResponse;
 import io.github.cristhianm30.spacex_launches_back.application.dto.response.StatsDataResponse;
 import io.github.cristhianm30.spacex_launches_back.application.mapper.LaunchMapperDto;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
 import io.github.cristhianm30.spacex_launches_back.domain.port.in.LaunchUseCasePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,13 +15,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -84,6 +91,23 @@ class LaunchServiceImplTest {
         verify(mapper).toResponse(launchModel);
     }
 
+    @Test
+    void getLaunchesByIds_ShouldReturnMappedResponsesInRepositoryOrder() {
+        // Given
+        List<String> ids = List.of("1", "missing");
+        List<LaunchModel> launches = List.of(launchModel);
+        List<LaunchResponse> expectedResponses = List.of(launchResponse);
+        when(useCasePort.getLaunchesByIds(ids)).thenReturn(launches);
+        when(mapper.toResponseList(launches)).thenReturn(expectedResponses);
+
+        // When
+        List<LaunchResponse> result = launchService.getLaunchesByIds(ids);
+
+        // Then
+        assertEquals(expectedResponses, result);
+        verify(useCasePort).getLaunchesByIds(ids);
+    }
+
     @Test
     void getLaunchById_WhenLaunchNotExists_ShouldReturnEmpty() {
         // Given
@@ -105,7 +129,7 @@ class LaunchServiceImplTest {
         List<LaunchModel> launches = Arrays.asList(launchModel);
         List<LaunchSummaryResponse> expectedResponses = Arrays.asList(launchSummaryResponse);
 
-        when(useCasePort.getAllLaunches()).thenReturn(launches);
+        when(useCasePort.getAllLaunches(LaunchField.SUMMARY)).thenReturn(launches);
         when(mapper.toSummaryResponseList(launches)).thenReturn(expectedResponses);
 
         // When
@@ -113,10 +137,29 @@ class LaunchServiceImplTest {
 
         // Then
         assertEquals(expectedResponses, result);
-        verify(useCasePort).getAllLaunches();
+        verify(useCasePort).getAllLaunches(LaunchField.SUMMARY);
         verify(mapper).toSummaryResponseList(launches);
     }
 
+    @Test
+    void streamAllLaunches_ShouldMapEachLaunchAsItArrives() {
+        // Given
+        List<LaunchSummaryResponse> received = new ArrayList<>();
+        doAnswer(invocation -> {
+            Consumer<LaunchModel> consumer = invocation.getArgument(1);
+            consumer.accept(launchModel);
+            return null;
+        }).when(useCasePort).streamAllLaunches(eq(LaunchField.SUMMARY), any());
+        when(mapper.toSummaryResponse(launchModel)).thenReturn(launchSummaryResponse);
+
+        // When
+        launchService.streamAllLaunches(received::add);
+
+        // Then
+        assertEquals(List.of(launchSummaryResponse), received);
+        verify(mapper, never()).toSummaryResponseList(any());
+    }
+
 
     @Test
     void getLaunchesByStatus_ShouldReturnFilteredMappedList() {
@@ -125,7 +168,7 @@ class LaunchServiceImplTest {
         List<LaunchModel> launches = Arrays.asList(launchModel);
         List<LaunchSummaryResponse> expectedResponses = Arrays.asList(launchSummaryResponse);
 
-        when(useCasePort.getLaunchesByStatus(status)).thenReturn(launches);
+        when(useCasePort.getLaunchesByStatus(status, LaunchField.SUMMARY)).thenReturn(launches);
         when(mapper.toSummaryResponseList(launches)).thenReturn(expectedResponses);
 
         // When
@@ -133,7 +176,7 @@ class LaunchServiceImplTest {
 
         // Then
         assertEquals(expectedResponses, result);
-        verify(useCasePort).getLaunchesByStatus(status);
+        verify(useCasePort).getLaunchesByStatus(status, LaunchField.SUMMARY);
         verify(mapper).toSummaryResponseList(launches);
     }
 
@@ -144,7 +187,7 @@ class LaunchServiceImplTest {
         List<LaunchModel> launches = Arrays.asList(launchModel);
         List<LaunchSummaryResponse> expectedResponses = Arrays.asList(launchSummaryResponse);
 
-        when(useCasePort.getLaunchesByRocket(rocketId)).thenReturn(launches);
+        when(useCasePort.getLaunchesByRocket(rocketId, LaunchField.SUMMARY)).thenReturn(launches);
         when(mapper.toSummaryResponseList(launches)).thenReturn(expectedResponses);
 
         // When
@@ -152,44 +195,73 @@ class LaunchServiceImplTest {
 
         // Then
         assertEquals(expectedResponses, result);
-        verify(useCasePort).getLaunchesByRocket(rocketId);
+        verify(useCasePort).getLaunchesByRocket(rocketId, LaunchField.SUMMARY);
         verify(mapper).toSummaryResponseList(launches);
     }
 
     @Test
-    void getLaunchStats_ShouldReturnCorrectStats() {
+    void getLaunchByIdAsync_WhenLaunchExists_ShouldReturnMappedResponse() {
+        // Given
+        String launchId = "1";
+        when(useCasePort.getLaunchByIdAsync(launchId)).thenReturn(CompletableFuture.completedFuture(Optional.of(launchModel)));
+        when(mapper.toResponse(launchModel)).thenReturn(launchResponse);
+
+        // When
+        Optional<LaunchResponse> result = launchService.getLaunchByIdAsync(launchId).join();
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(launchResponse, result.get());
+        verify(useCasePort).getLaunchByIdAsync(launchId);
+    }
+
+    @Test
+    void getLaunchByIdAsync_WithFields_ShouldPassProjectionToUseCase() {
+        // Given
+        Set<LaunchField> fields = EnumSet.of(LaunchField.LAUNCH_ID, LaunchField.MISSION_NAME);
+        when(useCasePort.getLaunchByIdAsync("1", fields)).thenReturn(CompletableFuture.completedFuture(Optional.of(launchModel)));
+        when(mapper.toResponse(launchModel)).thenReturn(launchResponse);
+
+        // When
+        Optional<LaunchResponse> result = launchService.getLaunchByIdAsync("1", fields).join();
+
+        // Then
+        assertEquals(Optional.of(launchResponse), result);
+        verify(useCasePort, never()).getLaunchByIdAsync("1");
+    }
+
+    @Test
+    void getLaunchesByRocketAsync_ShouldReturnFilteredMappedList() {
         // Given
-        LaunchSummaryResponse successfulLaunch = LaunchSummaryResponse.builder().status("success").build();
-        LaunchSummaryResponse failedLaunch = LaunchSummaryResponse.builder().status("failed").build();
-        LaunchSummaryResponse upcomingLaunch = LaunchSummaryResponse.builder().status("upcoming").build();
-        List<LaunchSummaryResponse> allLaunches = Arrays.asList(successfulLaunch, successfulLaunch, failedLaunch, upcomingLaunch);
+        String rocketId = "rocket1";
+        List<LaunchModel> launches = Arrays.asList(launchModel);
+        List<LaunchSummaryResponse> expectedResponses = Arrays.asList(launchSummaryResponse);
 
-        when(launchService.getAllLaunches()).thenReturn(allLaunches);
+        when(useCasePort.getLaunchesByRocketAsync(rocketId, LaunchField.SUMMARY)).thenReturn(CompletableFuture.completedFuture(launches));
+        when(mapper.toSummaryResponseList(launches)).thenReturn(expectedResponses);
 
         // When
-        StatsDataResponse result = launchService.getLaunchStats();
+        List<LaunchSummaryResponse> result = launchService.getLaunchesByRocketAsync(rocketId).join();
 
         // Then
-        assertEquals(4, result.getTotalLaunches());
-        assertEquals(2, result.getSuccessfulLaunches());
-        assertEquals(1, result.getFailedLaunches());
-        assertEquals(1, result.getUpcomingLaunches());
-        assertEquals(50.0, result.getSuccessRate(), 0.01);
+        assertEquals(expectedResponses, result);
+        verify(useCasePort).getLaunchesByRocketAsync(rocketId, LaunchField.SUMMARY);
     }
 
     @Test
-    void getLaunchStats_WhenNoLaunches_ShouldReturnZeroStats() {
+    void getLaunchStats_ShouldMapAggregatedStats() {
         // Given
-        when(launchService.getAllLaunches()).thenReturn(Collections.emptyList());
+        LaunchStats stats = new LaunchStats(4, 2, 1, 1);
+        StatsDataResponse response = new StatsDataResponse(4, 50.0, 2, 1, 1);
+        when(useCasePort.getLaunchStats()).thenReturn(stats);
+        when(mapper.toStatsResponse(stats)).thenReturn(response);
 
         // When
         StatsDataResponse result = launchService.getLaunchStats();
 
         // Then
-        assertEquals(0, result.getTotalLaunches());
-        assertEquals(0, result.getSuccessfulLaunches());
-        assertEquals(0, result.getFailedLaunches());
-        assertEquals(0, result.getUpcomingLaunches());
-        assertEquals(0.0, result.getSuccessRate(), 0.01);
+        assertEquals(response, result);
+        verify(useCasePort).getLaunchStats();
+        verify(useCasePort, never()).getAllLaunches(any());
     }
-}
\ No newline at end of file
+}
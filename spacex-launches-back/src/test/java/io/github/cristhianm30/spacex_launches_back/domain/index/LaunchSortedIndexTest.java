@@ -0,0 +1,149 @@
+package io.github.cristhianm30.spacex_launches_back.domain.index;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchQuery;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchSort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchSortedIndexTest {
+
+    private static LaunchModel launch(String id, Integer flightNumber, String date, String status, String rocketId) {
+        return LaunchModel.builder()
+                .launchId(id)
+                .flightNumber(flightNumber)
+                .launchDateUtc(date)
+                .status(status)
+                .rocketId(rocketId)
+                .launchpadId("pad1")
+                .build();
+    }
+
+    private static List<String> ids(List<LaunchModel> launches) {
+        return launches.stream().map(LaunchModel::getLaunchId).toList();
+    }
+
+    private static LaunchQuery query(String status, Integer minFlightNumber, Integer maxFlightNumber,
+                                     Instant from, Instant to, LaunchSort sort, Integer limit) {
+        return new LaunchQuery(status, null, null, minFlightNumber, maxFlightNumber, from, to, sort, limit);
+    }
+
+    private final LaunchSortedIndex index = LaunchSortedIndex.of(List.of(
+            launch("3", 3, "2008-09-28T23:15:00.000Z", "success", "falcon1"),
+            launch("1", 1, "2006-03-24T22:30:00.000Z", "failed", "falcon1"),
+            launch("5", 5, "2010-06-04T18:45:00.000Z", "success", "falcon9"),
+            launch("6", 6, "2027-01-01T00:00:00.000Z", "upcoming", "falcon9"),
+            launch("x", null, null, "upcoming", "falcon9"),
+            launch("2", 2, "2007-03-21T01:10:00.000Z", "failed", "falcon1")));
+
+    @Test
+    void search_ByDateDescendingWithLimit_ShouldReturnLatestLaunches() {
+        // When
+        List<LaunchModel> latest = index.search(query(null, null, null, null, null, LaunchSort.LAUNCH_DATE_DESC, 3));
+
+        // Then
+        assertEquals(List.of("6", "5", "3"), ids(latest));
+    }
+
+    @Test
+    void search_WithoutFilters_ShouldPlaceUnkeyedLaunchesLast() {
+        // When
+        List<LaunchModel> ascending = index.search(query(null, null, null, null, null, LaunchSort.LAUNCH_DATE_ASC, null));
+        List<LaunchModel> descending = index.search(query(null, null, null, null, null, LaunchSort.FLIGHT_NUMBER_DESC, null));
+
+        // Then
+        assertEquals(List.of("1", "2", "3", "5", "6", "x"), ids(ascending));
+        assertEquals(List.of("6", "5", "3", "2", "1", "x"), ids(descending));
+    }
+
+    @Test
+    void search_WithDateRangeAndStatus_ShouldApplyInclusiveBoundsAndExactStatus() {
+        // Given
+        Instant from = Instant.parse("2007-03-21T01:10:00Z");
+        Instant to = Instant.parse("2010-06-04T18:45:00Z");
+
+        // When
+        List<LaunchModel> successful = index.search(query("success", null, null, from, to, LaunchSort.LAUNCH_DATE_ASC, null));
+        List<LaunchModel> upperCase = index.search(query("SUCCESS", null, null, from, to, LaunchSort.LAUNCH_DATE_ASC, null));
+        List<LaunchModel> inRange = index.search(query(null, null, null, from, to, LaunchSort.FLIGHT_NUMBER_ASC, null));
+
+        // Then
+        assertEquals(List.of("3", "5"), ids(successful));
+        assertTrue(upperCase.isEmpty());
+        assertEquals(List.of("2", "3", "5"), ids(inRange));
+    }
+
+    @Test
+    void search_WithFlightNumberRange_ShouldExcludeLaunchesWithoutFlightNumber() {
+        // When
+        List<LaunchModel> launches = index.search(query(null, 2, null, null, null, LaunchSort.FLIGHT_NUMBER_ASC, null));
+        List<LaunchModel> upcoming = index.search(new LaunchQuery("upcoming", "falcon9", "pad1", null, 10,
+                null, null, LaunchSort.LAUNCH_DATE_ASC, null));
+
+        // Then
+        assertEquals(List.of("2", "3", "5", "6"), ids(launches));
+        assertEquals(List.of("6"), ids(upcoming));
+    }
+
+    @Test
+    void between_ShouldReturnDatedLaunchesInInclusiveRangeOldestFirst() {
+        // Given
+        Instant from = Instant.parse("2007-03-21T01:10:00Z");
+        Instant to = Instant.parse("2010-06-04T18:45:00Z");
+
+        // When / Then
+        assertEquals(List.of("2", "3", "5"), ids(index.between(from, to)));
+        assertEquals(List.of("5", "6"), ids(index.between(Instant.parse("2009-01-01T00:00:00Z"), null)));
+        assertEquals(List.of("1", "2", "3", "5", "6"), ids(index.between(null, null)));
+        assertTrue(index.between(Instant.parse("2030-01-01T00:00:00Z"), null).isEmpty());
+    }
+
+    @Test
+    void nextAndPrevious_ShouldReturnClosestDatedLaunchesAroundInstant() {
+        // Given
+        Instant now = Instant.parse("2008-09-28T23:15:00Z");
+
+        // When / Then
+        assertEquals(List.of("3", "5"), ids(index.next(now, 2)));
+        assertEquals(List.of("2", "1"), ids(index.previous(now, 5)));
+        assertEquals(List.of("6"), ids(index.next(Instant.parse("2020-01-01T00:00:00Z"), 10)));
+        assertTrue(index.previous(Instant.parse("2000-01-01T00:00:00Z"), 10).isEmpty());
+    }
+
+    @Test
+    void apply_ShouldMergeChangedLaunchesIntoBothOrderings() {
+        // Given
+        LaunchModel moved = launch("2", 7, "2030-01-01T00:00:00.000Z", "upcoming", "falcon9");
+        LaunchModel added = launch("4", 4, "2009-07-14T03:35:00.000Z", "success", "falcon1");
+
+        // When
+        LaunchSortedIndex applied = index.apply(Set.of("2", "5"), List.of(moved, added));
+
+        // Then
+        assertEquals(List.of("1", "3", "4", "6", "2", "x"),
+                ids(applied.search(query(null, null, null, null, null, LaunchSort.LAUNCH_DATE_ASC, null))));
+        assertEquals(List.of("2", "6", "4", "3", "1", "x"),
+                ids(applied.search(query(null, null, null, null, null, LaunchSort.FLIGHT_NUMBER_DESC, null))));
+        assertEquals(List.of("4", "6"), ids(applied.between(Instant.parse("2009-01-01T00:00:00Z"),
+                Instant.parse("2027-01-01T00:00:00Z"))));
+        assertEquals(6, applied.size());
+        assertEquals(List.of("5"), ids(index.next(Instant.parse("2010-01-01T00:00:00Z"), 1)));
+    }
+
+    @Test
+    void query_WithInvalidBounds_ShouldThrow() {
+        // When / Then
+        assertThrows(InvalidParameterException.class, () -> query(null, null, null, null, null, null, 0));
+        assertThrows(InvalidParameterException.class, () -> query(null, 5, 1, null, null, null, null));
+        assertThrows(InvalidParameterException.class,
+                () -> query(null, null, null, Instant.parse("2020-01-02T00:00:00Z"), Instant.parse("2020-01-01T00:00:00Z"), null, null));
+        assertThrows(InvalidParameterException.class, () -> LaunchSort.parse("missionName"));
+        assertEquals(LaunchSort.LAUNCH_DATE_DESC, query(null, null, null, null, null, null, null).sort());
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.cristhianm30.spacex_launches_back.domain.index;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTextQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchTextIndexTest {
+
+    private static LaunchModel launch(String id, String date, String missionName, String details) {
+        return LaunchModel.builder()
+                .launchId(id)
+                .launchDateUtc(date)
+                .missionName(missionName)
+                .details(details)
+                .build();
+    }
+
+    private static List<String> ids(List<LaunchModel> launches) {
+        return launches.stream().map(LaunchModel::getLaunchId).toList();
+    }
+
+    private final LaunchTextIndex index = LaunchTextIndex.of(List.of(
+            launch("1", "2006-03-24T22:30:00.000Z", "FalconSat", "Engine failure at 33 seconds"),
+            launch("2", "2018-02-06T20:45:00.000Z", "Falcon Heavy Test", "Tesla Roadster sent toward Mars"),
+            launch("3", "2020-05-30T19:22:00.000Z", "CCtCap Demo Mission 2", "First crewed flight of Crew Dragon"),
+            launch("4", "2021-01-24T15:00:00.000Z", "Transporter-1", "Rideshare mission with 143 satellites, a Dragon record"),
+            launch("5", "2022-04-08T15:17:00.000Z", "Axiom Misión 1", null),
+            launch("6", null, "Crew Dragon 9", "Crew rotation")));
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccentsOnBothSides() {
+        // When
+        List<LaunchModel> unaccented = index.search(new LaunchTextQuery("MISION", null));
+        List<LaunchModel> accented = index.search(new LaunchTextQuery("misión", null));
+
+        // Then
+        assertEquals(List.of("5"), ids(unaccented));
+        assertEquals(ids(unaccented), ids(accented));
+    }
+
+    @Test
+    void search_ShouldRankMissionNameAboveDetailsAndBreakTiesByMostRecent() {
+        // When
+        List<LaunchModel> dragon = index.search(new LaunchTextQuery("dragon", null));
+
+        // Then
+        assertEquals(List.of("6", "4", "3"), ids(dragon));
+    }
+
+    @Test
+    void search_WithSeveralWords_ShouldRequireAllAndMatchTheLastAsPrefix() {
+        // When
+        List<LaunchModel> crewDrag = index.search(new LaunchTextQuery("crew drag", null));
+        List<LaunchModel> fal = index.search(new LaunchTextQuery("fal", null));
+        List<LaunchModel> falNotLast = index.search(new LaunchTextQuery("fal heavy", null));
+
+        // Then
+        assertEquals(List.of("6", "3"), ids(crewDrag));
+        assertEquals(List.of("2", "1"), ids(fal));
+        assertTrue(falNotLast.isEmpty());
+    }
+
+    @Test
+    void search_WithLimitOrOnlySeparators_ShouldTrimOrReturnNothing() {
+        // When
+        List<LaunchModel> limited = index.search(new LaunchTextQuery("mission", 1));
+        List<LaunchModel> separators = index.search(new LaunchTextQuery("-- ,", null));
+
+        // Then
+        assertEquals(List.of("3"), ids(limited));
+        assertTrue(separators.isEmpty());
+        assertTrue(LaunchTextIndex.EMPTY.search(new LaunchTextQuery("dragon", null)).isEmpty());
+    }
+
+    @Test
+    void apply_ShouldSearchLikeAnIndexRebuiltFromTheChangedLaunches() {
+        // Given
+        LaunchModel renamed = launch("3", "2020-05-30T19:22:00.000Z", "Demo 2", "Crew Dragon docks with the station");
+        LaunchModel added = launch("7", "2023-03-02T05:34:00.000Z", "Crew-6", "Dragon Endeavour");
+        List<LaunchModel> remaining = new ArrayList<>(List.of(
+                launch("1", "2006-03-24T22:30:00.000Z", "FalconSat", "Engine failure at 33 seconds"),
+                launch("2", "2018-02-06T20:45:00.000Z", "Falcon Heavy Test", "Tesla Roadster sent toward Mars"),
+                launch("3", "2020-05-30T19:22:00.000Z", "CCtCap Demo Mission 2", "First crewed flight of Crew Dragon"),
+                launch("6", null, "Crew Dragon 9", "Crew rotation")));
+        LaunchTextIndex original = LaunchTextIndex.of(remaining);
+
+        // When
+        LaunchTextIndex applied = original.apply(List.of(remaining.get(2), remaining.get(3)), List.of(renamed, added));
+        LaunchTextIndex emptied = applied.apply(List.of(remaining.get(0), remaining.get(1), renamed), List.of());
+        LaunchTextIndex rebuilt = LaunchTextIndex.of(List.of(remaining.get(0), remaining.get(1), renamed, added));
+
+        // Then
+        for (String text : List.of("dragon", "crew", "mission", "fal", "demo 2", "rotation")) {
+            LaunchTextQuery query = new LaunchTextQuery(text, null);
+            assertEquals(ids(rebuilt.search(query)), ids(applied.search(query)), text);
+        }
+        assertEquals(4, applied.size());
+        assertEquals(List.of("7"), ids(emptied.search(new LaunchTextQuery("dragon", null))));
+        assertEquals(List.of("6", "3"), ids(original.search(new LaunchTextQuery("crew drag", null))));
+    }
+
+    @Test
+    void query_WithBlankTextOrInvalidLimit_ShouldThrow() {
+        assertThrows(InvalidParameterException.class, () -> new LaunchTextQuery(" ", null));
+        assertThrows(InvalidParameterException.class, () -> new LaunchTextQuery("dragon", 0));
+    }
+}
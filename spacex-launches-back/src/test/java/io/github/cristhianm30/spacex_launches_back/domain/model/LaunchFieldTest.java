@@ -0,0 +1,35 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchFieldTest {
+
+    @Test
+    void parse_ShouldMapPropertyNamesToFields() {
+        // When
+        var fields = LaunchField.parse(List.of("missionName", " details "), LaunchField.ALL);
+
+        // Then
+        assertEquals(EnumSet.of(LaunchField.MISSION_NAME, LaunchField.DETAILS), fields);
+    }
+
+    @Test
+    void parse_WhenNothingRequested_ShouldReturnAllowedFields() {
+        // When / Then
+        assertSame(LaunchField.SUMMARY, LaunchField.parse(null, LaunchField.SUMMARY));
+        assertSame(LaunchField.SUMMARY, LaunchField.parse(List.of(""), LaunchField.SUMMARY));
+    }
+
+    @Test
+    void parse_WhenFieldIsUnknownOrNotAllowed_ShouldThrow() {
+        // When / Then
+        assertThrows(InvalidParameterException.class, () -> LaunchField.parse(List.of("unknown"), LaunchField.ALL));
+        assertThrows(InvalidParameterException.class, () -> LaunchField.parse(List.of("details"), LaunchField.SUMMARY));
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchStatsTest {
+
+    private static LaunchModel launch(String id, String status) {
+        return LaunchModel.builder().launchId(id).status(status).build();
+    }
+
+    @Test
+    void of_ShouldCountLaunchesByStatus() {
+        // Given
+        LaunchModel successfulLaunch = launch("1", "success");
+        LaunchModel failedLaunch = launch("2", "failed");
+        LaunchModel upcomingLaunch = launch("3", "upcoming");
+
+        // When
+        LaunchStats stats = LaunchStats.of(Arrays.asList(successfulLaunch, successfulLaunch, failedLaunch, upcomingLaunch));
+
+        // Then
+        assertEquals(4, stats.totalLaunches());
+        assertEquals(2, stats.successfulLaunches());
+        assertEquals(1, stats.failedLaunches());
+        assertEquals(1, stats.upcomingLaunches());
+        assertEquals(50.0, stats.successRate(), 0.01);
+    }
+
+    @Test
+    void of_WhenNoLaunches_ShouldReturnZeroStats() {
+        // When
+        LaunchStats stats = LaunchStats.of(Collections.emptyList());
+
+        // Then
+        assertEquals(LaunchStats.EMPTY, stats);
+        assertEquals(0.0, stats.successRate(), 0.01);
+    }
+
+    @Test
+    void of_WhenStatusIsMissing_ShouldOnlyCountTotal() {
+        // When
+        LaunchStats stats = LaunchStats.of(Arrays.asList(launch("1", null), launch("2", "success")));
+
+        // Then
+        assertEquals(new LaunchStats(2, 1, 0, 0), stats);
+    }
+
+    @Test
+    void apply_ShouldMatchFullRebuildForInsertUpdateAndDelete() {
+        // Given
+        LaunchModel upcoming = launch("1", "upcoming");
+        LaunchModel failed = launch("2", "failed");
+        LaunchStats stats = LaunchStats.of(Arrays.asList(upcoming, failed));
+        LaunchModel landed = launch("1", "success");
+        LaunchModel added = launch("3", "upcoming");
+
+        // When
+        LaunchStats afterUpdate = stats.apply(upcoming, landed);
+        LaunchStats afterInsert = afterUpdate.apply(null, added);
+        LaunchStats afterDelete = afterInsert.apply(failed, null);
+
+        // Then
+        assertEquals(LaunchStats.of(Arrays.asList(landed, failed)), afterUpdate);
+        assertEquals(LaunchStats.of(Arrays.asList(landed, failed, added)), afterInsert);
+        assertEquals(LaunchStats.of(Arrays.asList(landed, added)), afterDelete);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.cristhianm30.spacex_launches_back.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchTimeSeriesTest {
+
+    private static LaunchModel launch(String id, String date, String status) {
+        return LaunchModel.builder().launchId(id).launchDateUtc(date).status(status).build();
+    }
+
+    private static List<String> periods(List<LaunchTimeSeries.Period> series) {
+        return series.stream().map(LaunchTimeSeries.Period::period).toList();
+    }
+
+    @Test
+    void of_ShouldBucketByUtcMonthAndYearWithoutGaps() {
+        // Given
+        List<LaunchModel> launches = List.of(
+                launch("3", "2021-02-01T01:00:00.000+03:00", "failed"),
+                launch("1", "2020-11-15T10:00:00.000Z", "success"),
+                launch("2", "2020-11-20T10:00:00.000Z", "upcoming"),
+                launch("x", null, "success"));
+
+        // When
+        LaunchTimeSeries series = LaunchTimeSeries.of(launches, 12);
+
+        // Then
+        assertEquals(List.of("2020-11", "2020-12", "2021-01"), periods(series.monthly()));
+        assertEquals(List.of("2020", "2021"), periods(series.yearly()));
+        assertEquals(new LaunchStats(2, 1, 0, 1), series.monthly().get(0).stats());
+        assertEquals(LaunchStats.EMPTY, series.monthly().get(1).stats());
+        assertEquals(new LaunchStats(1, 0, 1, 0), series.monthly().get(2).stats());
+        assertEquals(100.0, series.monthly().get(0).successRate(), 0.01);
+        assertNull(series.monthly().get(1).successRate());
+        assertNull(series.yearly().get(0).rollingSuccessRate());
+    }
+
+    @Test
+    void of_ShouldComputeSuccessRateOverTrailingWindow() {
+        // Given
+        List<LaunchModel> launches = List.of(
+                launch("1", "2020-01-10T00:00:00.000Z", "success"),
+                launch("2", "2020-02-10T00:00:00.000Z", "failed"),
+                launch("3", "2020-03-10T00:00:00.000Z", "failed"),
+                launch("4", "2020-05-10T00:00:00.000Z", "success"),
+                launch("5", "2020-05-20T00:00:00.000Z", "upcoming"));
+
+        // When
+        LaunchTimeSeries series = LaunchTimeSeries.of(launches, 2);
+
+        // Then
+        List<Double> rolling = series.monthly().stream().map(LaunchTimeSeries.Period::rollingSuccessRate).toList();
+        assertEquals(List.of("2020-01", "2020-02", "2020-03", "2020-04", "2020-05"), periods(series.monthly()));
+        assertEquals(100.0, rolling.get(0), 0.01);
+        assertEquals(50.0, rolling.get(1), 0.01);
+        assertEquals(0.0, rolling.get(2), 0.01);
+        assertEquals(0.0, rolling.get(3), 0.01);
+        assertEquals(100.0, rolling.get(4), 0.01);
+        assertEquals(new LaunchStats(5, 2, 2, 1), series.yearly().get(0).stats());
+        assertEquals(50.0, series.yearly().get(0).successRate(), 0.01);
+    }
+
+    @Test
+    void of_WhenNoDatedLaunches_ShouldReturnEmptySeries() {
+        // When
+        LaunchTimeSeries series = LaunchTimeSeries.of(List.of(launch("x", "soon", "upcoming")), 12);
+
+        // Then
+        assertTrue(series.monthly().isEmpty());
+        assertTrue(series.yearly().isEmpty());
+    }
+}
@@ -1,8 +1,13 @@
 package io.github.cristhianm30.spacex_launches_back.domain.usecase;
 
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
 import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchTimeSeries;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
 import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
 import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,13 +16,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +34,9 @@ class LaunchUseCaseTest {
     @Mock
     private LaunchRepositoryPort repositoryPort;
 
+    @Mock
+    private LaunchAsyncRepositoryPort asyncRepositoryPort;
+
     @InjectMocks
     private LaunchUseCase launchUseCase;
 
@@ -78,6 +89,20 @@ class LaunchUseCaseTest {
         verify(repositoryPort).findById(launchId);
     }
 
+    @Test
+    void getLaunchesByIds_ShouldDelegateToRepository() {
+        // Given
+        List<String> ids = List.of("2", "1");
+        when(repositoryPort.findByIds(ids)).thenReturn(List.of(failedLaunch, successfulLaunch));
+
+        // When
+        List<LaunchModel> result = launchUseCase.getLaunchesByIds(ids);
+
+        // Then
+        assertEquals(List.of(failedLaunch, successfulLaunch), result);
+        verify(repositoryPort).findByIds(ids);
+    }
+
     @Test
     void getLaunchById_WhenLaunchNotExists_ShouldReturnEmpty() {
         // Given
@@ -120,6 +145,80 @@ class LaunchUseCaseTest {
         verify(repositoryPort).findAll();
     }
 
+    @Test
+    void getAllLaunches_WithSummaryFields_ShouldPassProjectionToRepository() {
+        // Given
+        List<LaunchModel> summaries = Arrays.asList(successfulLaunch, failedLaunch);
+        when(repositoryPort.findAll(LaunchField.SUMMARY)).thenReturn(summaries);
+
+        // When
+        List<LaunchModel> result = launchUseCase.getAllLaunches(LaunchField.SUMMARY);
+
+        // Then
+        assertEquals(summaries, result);
+        verify(repositoryPort).findAll(LaunchField.SUMMARY);
+        verify(repositoryPort, never()).findAll();
+    }
+
+    @Test
+    void getLaunchStats_ShouldReturnRepositoryStats() {
+        // Given
+        LaunchStats stats = new LaunchStats(3, 1, 2, 0);
+        when(repositoryPort.getStats()).thenReturn(stats);
+
+        // When
+        LaunchStats result = launchUseCase.getLaunchStats();
+
+        // Then
+        assertEquals(stats, result);
+        verify(repositoryPort).getStats();
+    }
+
+    @Test
+    void getLaunchTimeSeries_ShouldDefaultWindowAndRejectOutOfRange() {
+        // Given
+        LaunchTimeSeries series = new LaunchTimeSeries(12, List.of(), List.of());
+        when(repositoryPort.getTimeSeries(12)).thenReturn(series);
+
+        // When
+        LaunchTimeSeries result = launchUseCase.getLaunchTimeSeries(null);
+
+        // Then
+        assertEquals(series, result);
+        assertThrows(InvalidParameterException.class, () -> launchUseCase.getLaunchTimeSeries(0));
+        assertThrows(InvalidParameterException.class, () -> launchUseCase.getLaunchTimeSeries(121));
+        verify(repositoryPort).getTimeSeries(12);
+        verifyNoMoreInteractions(repositoryPort);
+    }
+
+    @Test
+    void getUpcomingAndLatestLaunches_ShouldDefaultLimitAndRejectNonPositive() {
+        // Given
+        when(repositoryPort.findNextLaunches(any(Instant.class), eq(10), eq(LaunchField.SUMMARY))).thenReturn(List.of(successfulLaunch));
+        when(repositoryPort.findPreviousLaunches(any(Instant.class), eq(3), eq(LaunchField.SUMMARY))).thenReturn(List.of());
+
+        // When
+        List<LaunchModel> upcoming = launchUseCase.getUpcomingLaunches(null, LaunchField.SUMMARY);
+        List<LaunchModel> latest = launchUseCase.getLatestLaunches(3, LaunchField.SUMMARY);
+
+        // Then
+        assertEquals(List.of(successfulLaunch), upcoming);
+        assertTrue(latest.isEmpty());
+        assertThrows(InvalidParameterException.class, () -> launchUseCase.getUpcomingLaunches(0, LaunchField.SUMMARY));
+        assertThrows(InvalidParameterException.class, () -> launchUseCase.getLatestLaunches(-1, LaunchField.SUMMARY));
+    }
+
+    @Test
+    void getLaunchesBetween_WithFromAfterTo_ShouldThrow() {
+        // Given
+        Instant from = Instant.parse("2020-01-02T00:00:00Z");
+        Instant to = Instant.parse("2020-01-01T00:00:00Z");
+
+        // When / Then
+        assertThrows(InvalidParameterException.class, () -> launchUseCase.getLaunchesBetween(from, to, LaunchField.SUMMARY));
+        verifyNoInteractions(repositoryPort);
+    }
+
     @Test
     void getLaunches_ShouldReturnPaginatedLaunches() {
         // Given
@@ -196,4 +295,34 @@ class LaunchUseCaseTest {
         assertTrue(result.isEmpty());
         verify(repositoryPort).findByRocketId(rocketId);
     }
+
+    @Test
+    void getLaunchByIdAsync_ShouldDelegateToAsyncRepository() {
+        // Given
+        String launchId = "1";
+        when(asyncRepositoryPort.findByIdAsync(launchId)).thenReturn(CompletableFuture.completedFuture(Optional.of(successfulLaunch)));
+
+        // When
+        Optional<LaunchModel> result = launchUseCase.getLaunchByIdAsync(launchId).join();
+
+        // Then
+        assertEquals(Optional.of(successfulLaunch), result);
+        verify(asyncRepositoryPort).findByIdAsync(launchId);
+        verifyNoInteractions(repositoryPort);
+    }
+
+    @Test
+    void getLaunchesByStatusAsync_ShouldDelegateToAsyncRepository() {
+        // Given
+        String status = "failed";
+        when(asyncRepositoryPort.findByStatusAsync(status, LaunchField.SUMMARY)).thenReturn(CompletableFuture.completedFuture(List.of(failedLaunch)));
+
+        // When
+        List<LaunchModel> result = launchUseCase.getLaunchesByStatusAsync(status, LaunchField.SUMMARY).join();
+
+        // Then
+        assertEquals(List.of(failedLaunch), result);
+        verify(asyncRepositoryPort).findByStatusAsync(status, LaunchField.SUMMARY);
+        verifyNoInteractions(repositoryPort);
+    }
 }
@@ -0,0 +1,117 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LaunchETagInterceptorTest {
+
+    private static final String CACHE_CONTROL = "max-age=60, public";
+
+    @Mock
+    private LaunchService service;
+
+    private LaunchETagInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new LaunchETagInterceptor(service, CACHE_CONTROL);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void preHandle_WhenDataVersionMatches_ShouldAnswerNotModifiedWithoutCallingHandler() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/launches");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"old\", W/\"abc\"");
+        when(service.getDataVersion()).thenReturn(Optional.of("abc"));
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertFalse(proceed);
+        assertEquals(304, response.getStatus());
+        assertEquals("\"abc\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(CACHE_CONTROL, response.getHeader(HttpHeaders.CACHE_CONTROL));
+        verify(service, never()).getLaunchVersion(anyString());
+    }
+
+    @Test
+    void preHandle_WhenItemVersionDiffers_ShouldProceedAndExposeETag() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/launches/1");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of(EndpointConstants.ID_VARIABLE, "1"));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc\"");
+        when(service.getLaunchVersion("1")).thenReturn(Optional.of("def"));
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertTrue(proceed);
+        assertEquals(200, response.getStatus());
+        assertEquals("\"def\"", request.getAttribute(EndpointConstants.ETAG_ATTRIBUTE));
+        verify(service, never()).getDataVersion();
+    }
+
+    @Test
+    void preHandle_ForStoredResponse_ShouldMatchGzipTagOnlyForClientsAcceptingGzip() throws NoSuchMethodException {
+        // Given
+        HandlerMethod storedHandler = new HandlerMethod(new Object(), LaunchController.class.getMethod("getLaunchStats"));
+        MockHttpServletRequest gzipRequest = new MockHttpServletRequest("GET", "/launches/stats");
+        gzipRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc-gzip\"");
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletRequest identityRequest = new MockHttpServletRequest("GET", "/launches/stats");
+        identityRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc-gzip\"");
+        MockHttpServletResponse identityResponse = new MockHttpServletResponse();
+        when(service.getDataVersion()).thenReturn(Optional.of("abc"));
+
+        // When
+        boolean gzipProceeds = interceptor.preHandle(gzipRequest, response, storedHandler);
+        boolean identityProceeds = interceptor.preHandle(identityRequest, identityResponse, storedHandler);
+
+        // Then
+        assertFalse(gzipProceeds);
+        assertEquals(304, response.getStatus());
+        assertEquals("\"abc-gzip\"", response.getHeader(HttpHeaders.ETAG));
+        assertTrue(identityProceeds);
+        assertEquals("\"abc\"", identityRequest.getAttribute(EndpointConstants.ETAG_ATTRIBUTE));
+    }
+
+    @Test
+    void preHandle_WithoutVersionOrForWrites_ShouldProceedUntouched() {
+        // Given
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/launches/stats");
+        MockHttpServletRequest write = new MockHttpServletRequest("POST", "/launches/batch");
+        read.addHeader(HttpHeaders.IF_NONE_MATCH, EndpointConstants.ANY_ETAG);
+        when(service.getDataVersion()).thenReturn(Optional.empty());
+
+        // When
+        boolean readProceeds = interceptor.preHandle(read, response, new Object());
+        boolean writeProceeds = interceptor.preHandle(write, response, new Object());
+
+        // Then
+        assertTrue(readProceeds);
+        assertTrue(writeProceeds);
+        assertNull(read.getAttribute(EndpointConstants.ETAG_ATTRIBUTE));
+        verify(service, times(1)).getDataVersion();
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.LaunchUpdateResponse;
+import io.github.cristhianm30.spacex_launches_back.application.dto.response.StatsDataResponse;
+import io.github.cristhianm30.spacex_launches_back.application.service.api.LaunchService;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchReadScope;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.CacheConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LaunchEventBroadcasterTest {
+
+    @Mock
+    private LaunchService service;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LaunchEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new LaunchEventBroadcaster(service, new ObjectMapper(),
+                new LaunchHttpProperties(Duration.ofSeconds(60), DataSize.ofMegabytes(8), Duration.ofMinutes(30), Duration.ofSeconds(20)),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster.isRunning()) {
+            broadcaster.stop();
+        }
+    }
+
+    @Test
+    void subscribe_WhenUpdateIsPublishedMeanwhile_ShouldSendInitialEventFirstAndThenTheUpdate() throws Exception {
+        // Given
+        Thread[] publisher = new Thread[1];
+        givenCurrentVersion("v1");
+        when(service.getLaunchStats()).thenAnswer(invocation -> {
+            publisher[0] = Thread.ofPlatform().start(() -> broadcaster.publish(update("v2")));
+            while (publisher[0].getState() != Thread.State.BLOCKED && publisher[0].isAlive()) {
+                Thread.onSpinWait();
+            }
+            return stats();
+        });
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        broadcaster.subscribe(emitter);
+        publisher[0].join(5000);
+
+        // Then
+        assertEquals(List.of("v1", "v2"), emitter.ids(2));
+    }
+
+    @Test
+    void publish_ShouldSendUpdatesToEverySubscriberInPublishOrder() throws Exception {
+        // Given
+        givenCurrentVersion("v0");
+        when(service.getLaunchStats()).thenReturn(stats());
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        broadcaster.subscribe(first);
+        broadcaster.subscribe(second);
+        List<String> expected = new ArrayList<>(List.of("v0"));
+
+        // When
+        for (int i = 1; i <= 20; i++) {
+            broadcaster.publish(update("v" + i));
+            expected.add("v" + i);
+        }
+
+        // Then
+        assertEquals(expected, first.ids(expected.size()));
+        assertEquals(expected, second.ids(expected.size()));
+    }
+
+    @Test
+    void publish_WhenSubscriberFallsMaxBacklogBehind_ShouldDisconnectOnlyThatSubscriber() throws Exception {
+        // Given
+        givenCurrentVersion("v0");
+        when(service.getLaunchStats()).thenReturn(stats());
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter();
+        broadcaster.subscribe(stalled);
+        broadcaster.subscribe(healthy);
+
+        // When
+        for (int i = 1; i <= LaunchEventBroadcaster.MAX_BACKLOG; i++) {
+            broadcaster.publish(update("v" + i));
+        }
+        release.countDown();
+
+        // Then
+        assertTrue(stalled.completed);
+        assertFalse(healthy.completed);
+        assertEquals(LaunchEventBroadcaster.MAX_BACKLOG + 1, healthy.ids(LaunchEventBroadcaster.MAX_BACKLOG + 1).size());
+        assertEquals(1, meterRegistry.counter(CacheConstants.METRIC_EVENTS_DROPPED).count());
+        assertEquals(1, meterRegistry.get(CacheConstants.METRIC_EVENTS_SUBSCRIBERS).gauge().value());
+    }
+
+    @Test
+    void stop_ShouldCompleteSubscribersAndCompleteLaterSubscribersWhenSendsAreRejected() throws Exception {
+        // Given
+        givenCurrentVersion("v1");
+        when(service.getLaunchStats()).thenReturn(stats());
+        broadcaster.start();
+        RecordingEmitter subscribed = new RecordingEmitter();
+        broadcaster.subscribe(subscribed);
+        subscribed.ids(1);
+
+        // When
+        broadcaster.stop();
+        RecordingEmitter late = new RecordingEmitter();
+        broadcaster.subscribe(late);
+
+        // Then
+        assertTrue(subscribed.completed);
+        assertTrue(late.completed);
+        assertEquals(0, meterRegistry.get(CacheConstants.METRIC_EVENTS_SUBSCRIBERS).gauge().value());
+    }
+
+    private void givenCurrentVersion(String version) {
+        when(service.openReadScope()).thenReturn(LaunchReadScope.NONE);
+        when(service.getDataVersion()).thenReturn(Optional.of(version));
+    }
+
+    private static StatsDataResponse stats() {
+        return StatsDataResponse.builder().totalLaunches(3).successfulLaunches(2).failedLaunches(1).build();
+    }
+
+    private static LaunchUpdateResponse update(String version) {
+        return LaunchUpdateResponse.builder()
+                .version(version)
+                .upserted(List.of())
+                .removed(List.of("1"))
+                .stats(stats())
+                .build();
+    }
+
+    /**
+     * Records the id of each event sent to it; with a latch, its first send waits for it, stalling the subscriber.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> ids = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            String event = items.stream().map(item -> item.getData().toString()).collect(Collectors.joining());
+            ids.add(event.substring(event.indexOf("id:") + 3, event.indexOf('\n')));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> ids(int count) throws InterruptedException {
+            List<String> received = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = ids.poll(5, TimeUnit.SECONDS);
+                assertNotNull(id, "expected " + count + " events but got " + received);
+                received.add(id);
+            }
+            return received;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchResponseStoreFilterTest {
+
+    private static final String ETAG = "\"abc\"";
+    private static final String KEY = "/api/launches/stats";
+    private static final byte[] JSON = "{\"totalLaunches\":3}".getBytes(StandardCharsets.UTF_8);
+
+    private LaunchResponseStore store;
+    private LaunchResponseStoreFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        store = new LaunchResponseStore(new LaunchHttpProperties(Duration.ofSeconds(60), DataSize.ofBytes(3000), Duration.ofMinutes(30), Duration.ofSeconds(20)), new SimpleMeterRegistry());
+        filter = new LaunchResponseStoreFilter(store);
+    }
+
+    @Test
+    void doFilter_WhenBodyIsMarked_ShouldStoreTheBytesWrittenToTheClient() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", KEY), response, writing(JSON, true));
+
+        // Then
+        assertArrayEquals(JSON, response.getContentAsByteArray());
+        assertArrayEquals(JSON, store.get(KEY, ETAG, false).orElseThrow().json());
+    }
+
+    @Test
+    void doFilter_WhenBodyIsNotMarked_ShouldOnlyWriteThrough() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", KEY), response, writing(JSON, false));
+
+        // Then
+        assertArrayEquals(JSON, response.getContentAsByteArray());
+        assertTrue(store.get(KEY, ETAG, false).isEmpty());
+    }
+
+    @Test
+    void doFilter_WhenBodyOutgrowsTheStore_ShouldWriteItWithoutStoring() throws Exception {
+        // Given
+        byte[] large = new byte[4000];
+        Arrays.fill(large, (byte) 'a');
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", KEY), response, writing(large, true));
+
+        // Then
+        assertEquals(large.length, response.getContentAsByteArray().length);
+        assertTrue(store.get(KEY, ETAG, false).isEmpty());
+    }
+
+    private static FilterChain writing(byte[] body, boolean marked) {
+        return (request, response) -> {
+            if (marked) {
+                request.setAttribute(EndpointConstants.STORE_ETAG_ATTRIBUTE, ETAG);
+            }
+            response.getOutputStream().write(body, 0, body.length / 2);
+            response.getOutputStream().write(body, body.length / 2, body.length - body.length / 2);
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.EndpointConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchResponseStoreInterceptorTest {
+
+    private static final String CACHE_CONTROL = "max-age=60, public";
+    private static final String ETAG = "\"abc\"";
+    private static final byte[] JSON = "{\"totalLaunches\":3}".getBytes(StandardCharsets.UTF_8);
+
+    private SimpleMeterRegistry meterRegistry;
+    private LaunchResponseStore store;
+    private LaunchResponseStoreInterceptor interceptor;
+    private HandlerMethod storedHandler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new LaunchResponseStore(new LaunchHttpProperties(Duration.ofSeconds(60), DataSize.ofMegabytes(8), Duration.ofMinutes(30), Duration.ofSeconds(20)), meterRegistry);
+        interceptor = new LaunchResponseStoreInterceptor(store, CACHE_CONTROL);
+        storedHandler = new HandlerMethod(new Object(), LaunchController.class.getMethod("getLaunchStats"));
+    }
+
+    @Test
+    void preHandle_WhenStoredForCurrentETag_ShouldWriteGzipBytesWithoutCallingHandler() throws IOException {
+        // Given
+        store.put("/api/launches/stats", ETAG, JSON);
+        MockHttpServletRequest request = request(ETAG);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, storedHandler);
+
+        // Then
+        assertFalse(proceed);
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"abc-gzip\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(CACHE_CONTROL, response.getHeader(HttpHeaders.CACHE_CONTROL));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(JSON, input.readAllBytes());
+        }
+    }
+
+    @Test
+    void preHandle_WhenClientRefusesGzip_ShouldWriteIdentityBytes() throws IOException {
+        // Given
+        store.put("/api/launches/stats", ETAG, JSON);
+        MockHttpServletRequest request = request(ETAG);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, storedHandler);
+
+        // Then
+        assertFalse(proceed);
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(JSON, response.getContentAsByteArray());
+    }
+
+    @Test
+    void preHandle_WhenStoredForOlderETag_ShouldFallThroughToHandler() throws IOException {
+        // Given
+        store.put("/api/launches/stats", "\"old\"", JSON);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request(ETAG), response, storedHandler);
+
+        // Then
+        assertTrue(proceed);
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(1.0, meterRegistry.get("launches.response.store.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void preHandle_ForHandlerWithoutStoredResponse_ShouldFallThrough() throws Exception {
+        // Given
+        store.put("/api/launches/stats", ETAG, JSON);
+        HandlerMethod plainHandler = new HandlerMethod(new Object(), LaunchController.class.getMethod("getLaunchById", String.class, List.class));
+
+        // When
+        boolean proceed = interceptor.preHandle(request(ETAG), new MockHttpServletResponse(), plainHandler);
+
+        // Then
+        assertTrue(proceed);
+    }
+
+    private static MockHttpServletRequest request(String etag) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/launches/stats");
+        request.setAttribute(EndpointConstants.ETAG_ATTRIBUTE, etag);
+        return request;
+    }
+}
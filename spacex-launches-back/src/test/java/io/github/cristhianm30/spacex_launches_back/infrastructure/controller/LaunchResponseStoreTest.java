@@ -0,0 +1,73 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.controller;
+
+import io.github.cristhianm30.spacex_launches_back.infrastructure.config.LaunchHttpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchResponseStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LaunchResponseStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new LaunchResponseStore(new LaunchHttpProperties(Duration.ofSeconds(60), DataSize.ofBytes(3000), Duration.ofMinutes(30), Duration.ofSeconds(20)), meterRegistry);
+    }
+
+    @Test
+    void put_WhenOverBudget_ShouldEvictLeastRecentlyServedEntries() {
+        // Given
+        store.put("/launches/rocket/a", "\"v1\"", incompressible(600));
+        store.put("/launches/rocket/b", "\"v1\"", incompressible(600));
+        store.get("/launches/rocket/a", "\"v1\"", false);
+
+        // When
+        store.put("/launches/rocket/c", "\"v1\"", incompressible(600));
+
+        // Then
+        assertTrue(store.get("/launches/rocket/a", "\"v1\"", false).isPresent());
+        assertTrue(store.get("/launches/rocket/b", "\"v1\"", false).isEmpty());
+        assertTrue(store.get("/launches/rocket/c", "\"v1\"", true).isPresent());
+        assertTrue(store.size() <= 3000);
+        assertEquals(1.0, meterRegistry.get("launches.response.store.evictions").counter().count());
+    }
+
+    @Test
+    void put_WhenReplacingEntry_ShouldAccountOnlyForLatestVersion() {
+        // Given
+        store.put("/launches/stats", "\"v1\"", incompressible(600));
+        long sizeAfterFirst = store.size();
+
+        // When
+        store.put("/launches/stats", "\"v2\"", incompressible(600));
+
+        // Then
+        assertEquals(sizeAfterFirst, store.size(), 64);
+        assertTrue(store.get("/launches/stats", "\"v1\"", false).isEmpty());
+        assertTrue(store.get("/launches/stats", "\"v2\"", false).isPresent());
+    }
+
+    @Test
+    void put_WhenEntryAloneExceedsBudget_ShouldNotStoreIt() {
+        // When
+        store.put("/launches", "\"v1\"", incompressible(4000));
+
+        // Then
+        assertEquals(0, store.size());
+        assertTrue(store.get("/launches", "\"v1\"", false).isEmpty());
+    }
+
+    private static byte[] incompressible(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,583 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.InvalidParameterException;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchChange;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchStats;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchUpdate;
+import io.github.cristhianm30.spacex_launches_back.domain.model.Page;
+import io.github.cristhianm30.spacex_launches_back.domain.model.Pageable;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingLaunchRepositoryTest {
+
+    @Mock
+    private LaunchRepositoryPort delegate;
+
+    @Mock
+    private LaunchAsyncRepositoryPort asyncDelegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingLaunchRepository repository;
+
+    private LaunchModel successfulLaunch;
+    private LaunchModel failedLaunch;
+    private LaunchModel upcomingLaunch;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingLaunchRepository(delegate, asyncDelegate, Duration.ofMinutes(15), meterRegistry);
+
+        successfulLaunch = LaunchModel.builder()
+                .launchId("1")
+                .missionName("Successful Mission")
+                .status("success")
+                .rocketId("falcon9")
+                .build();
+
+        failedLaunch = LaunchModel.builder()
+                .launchId("2")
+                .missionName("Failed Mission")
+                .status("failed")
+                .rocketId("falcon1")
+                .build();
+
+        upcomingLaunch = LaunchModel.builder()
+                .launchId("3")
+                .missionName("Upcoming Mission")
+                .status("upcoming")
+                .rocketId("falcon9")
+                .build();
+    }
+
+    @Test
+    void findAll_BeforeFirstRefresh_ShouldDelegateAndCountMiss() {
+        // Given
+        List<LaunchModel> launches = Arrays.asList(successfulLaunch, failedLaunch);
+        when(delegate.findAll()).thenReturn(launches);
+
+        // When
+        List<LaunchModel> result = repository.findAll();
+
+        // Then
+        assertEquals(launches, result);
+        assertEquals(1.0, meterRegistry.counter("launches.cache.requests", "result", "miss").count());
+    }
+
+    @Test
+    void findAll_AfterRefresh_ShouldServeFromMemory() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        List<LaunchModel> first = repository.findAll();
+        List<LaunchModel> second = repository.findAll();
+
+        // Then
+        assertEquals(3, first.size());
+        assertSame(first, second);
+        verify(delegate, times(1)).findAll();
+        assertEquals(2.0, meterRegistry.counter("launches.cache.requests", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("launches.cache.refreshes", "result", "success").count());
+    }
+
+    @Test
+    void streamAll_AfterRefresh_ShouldPushSnapshotInOrderWithoutDelegate() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch));
+        repository.refresh();
+        List<LaunchModel> received = new ArrayList<>();
+
+        // When
+        repository.streamAll(LaunchField.SUMMARY, received::add);
+
+        // Then
+        assertEquals(repository.findAll(), received);
+        verify(delegate, never()).streamAll(any(), any());
+    }
+
+    @Test
+    void streamAll_BeforeFirstRefresh_ShouldStreamFromDelegate() {
+        // Given
+        Consumer<LaunchModel> consumer = launch -> { };
+
+        // When
+        repository.streamAll(LaunchField.SUMMARY, consumer);
+
+        // Then
+        verify(delegate).streamAll(LaunchField.SUMMARY, consumer);
+    }
+
+    @Test
+    void findByRocketId_WithFieldsBeforeFirstRefresh_ShouldDelegateProjectedRead() {
+        // Given
+        when(delegate.findByRocketId("falcon9", LaunchField.SUMMARY)).thenReturn(List.of(successfulLaunch));
+
+        // When
+        List<LaunchModel> result = repository.findByRocketId("falcon9", LaunchField.SUMMARY);
+
+        // Then
+        assertEquals(List.of(successfulLaunch), result);
+        verify(delegate, never()).findByRocketId("falcon9");
+    }
+
+    @Test
+    void findById_AfterRefresh_ShouldNotTouchDelegate() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch));
+        repository.refresh();
+
+        // When
+        Optional<LaunchModel> found = repository.findById("2");
+        Optional<LaunchModel> missing = repository.findById("nonexistent");
+
+        // Then
+        assertEquals(Optional.of(failedLaunch), found);
+        assertFalse(missing.isPresent());
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    void findByIds_AfterRefresh_ShouldReturnRequestOrderWithoutDuplicatesOrMissing() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        List<LaunchModel> result = repository.findByIds(List.of("3", "nonexistent", "1", "3"));
+
+        // Then
+        assertEquals(List.of(upcomingLaunch, successfulLaunch), result);
+        verify(delegate, never()).findByIds(any());
+    }
+
+    @Test
+    void findByIds_WithBlankId_ShouldThrowInvalidParameterException() {
+        // When / Then
+        assertThrows(InvalidParameterException.class, () -> repository.findByIds(Arrays.asList("1", " ")));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findByIds_WithMoreThanMaxIds_ShouldThrowInvalidParameterException() {
+        // Given
+        List<String> ids = IntStream.rangeClosed(0, DatabaseConstants.BATCH_GET_MAX_IDS).mapToObj(String::valueOf).toList();
+
+        // When / Then
+        assertThrows(InvalidParameterException.class, () -> repository.findByIds(ids));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findByIdAsync_BeforeFirstRefresh_ShouldDelegateToAsyncRepository() {
+        // Given
+        when(asyncDelegate.findByIdAsync("1")).thenReturn(CompletableFuture.completedFuture(Optional.of(successfulLaunch)));
+
+        // When
+        Optional<LaunchModel> result = repository.findByIdAsync("1").join();
+
+        // Then
+        assertEquals(Optional.of(successfulLaunch), result);
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    void findByStatusAsync_AfterRefresh_ShouldCompleteImmediatelyFromMemory() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        CompletableFuture<List<LaunchModel>> result = repository.findByStatusAsync("upcoming", LaunchField.SUMMARY);
+
+        // Then
+        assertTrue(result.isDone());
+        assertEquals(List.of(upcomingLaunch), result.join());
+        verifyNoInteractions(asyncDelegate);
+    }
+
+    @Test
+    void findByStatusAndRocket_AfterRefresh_ShouldFilterInMemory() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        List<LaunchModel> byStatus = repository.findByStatus("failed");
+        List<LaunchModel> byRocket = repository.findByRocketId("falcon9");
+
+        // Then
+        assertEquals(List.of(failedLaunch), byStatus);
+        assertEquals(List.of(successfulLaunch, upcomingLaunch), byRocket);
+        verify(delegate, never()).findByStatus(any());
+        verify(delegate, never()).findByRocketId(any());
+    }
+
+    @Test
+    void findByRocketId_AfterRefresh_ShouldReturnLaunchesSortedByDate() {
+        // Given
+        successfulLaunch.setLaunchDateUtc("2020-05-30T19:22:00.000Z");
+        upcomingLaunch.setLaunchDateUtc("2010-06-04T18:45:00.000Z");
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        List<LaunchModel> result = repository.findByRocketId("falcon9");
+
+        // Then
+        assertEquals(List.of(upcomingLaunch, successfulLaunch), result);
+    }
+
+    @Test
+    void findAllPaginated_WhenPageIsPastTheEnd_ShouldReturnEmptyPage() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        Page<LaunchModel> page = repository.findAll(null, new Pageable(5, 2));
+
+        // Then
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    void findAllPaginated_InCursorMode_ShouldWalkAllPagesWithContinuationTokens() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        Page<LaunchModel> first = repository.findAll(null, new Pageable(0, 2, ""));
+        Page<LaunchModel> second = repository.findAll(null, new Pageable(0, 2, first.getNextCursor()));
+
+        // Then
+        assertEquals(List.of(successfulLaunch, failedLaunch), first.getContent());
+        assertNotNull(first.getNextCursor());
+        assertFalse(first.isLast());
+        assertEquals(List.of(upcomingLaunch), second.getContent());
+        assertNull(second.getNextCursor());
+        assertTrue(second.isLast());
+        assertEquals(Page.UNKNOWN_TOTAL, second.getTotalElements());
+    }
+
+    @Test
+    void findAllPaginated_WhenCursorLaunchIsRemoved_ShouldResumeAfterItsDate() {
+        // Given
+        successfulLaunch.setLaunchDateUtc("2020-05-30T19:22:00.000Z");
+        failedLaunch.setLaunchDateUtc("2006-03-24T22:30:00.000Z");
+        when(delegate.findAll()).thenReturn(List.of(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+        Page<LaunchModel> first = repository.findAll(null, new Pageable(0, 1, ""));
+
+        // When
+        repository.apply(List.of(LaunchChange.remove("2")));
+        Page<LaunchModel> second = repository.findAll(null, new Pageable(0, 1, first.getNextCursor()));
+        Page<LaunchModel> third = repository.findAll(null, new Pageable(0, 1, second.getNextCursor()));
+
+        // Then
+        assertEquals(List.of(failedLaunch), first.getContent());
+        assertEquals(List.of(successfulLaunch), second.getContent());
+        assertEquals(List.of(upcomingLaunch), third.getContent());
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    void findAllPaginated_WithCursorFromScanOrder_ShouldThrowInvalidParameterException() {
+        // Given
+        when(delegate.findAll()).thenReturn(List.of(successfulLaunch, failedLaunch));
+        repository.refresh();
+        String scanCursor = LaunchCursorCodec.encode(Map.of("launch_id", AttributeValue.fromS("1")));
+
+        // When / Then
+        assertThrows(InvalidParameterException.class, () -> repository.findAll(null, new Pageable(0, 1, scanCursor)));
+    }
+
+    @Test
+    void getStats_AfterRefresh_ShouldReturnPrecomputedCounters() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+
+        // When
+        LaunchStats stats = repository.getStats();
+
+        // Then
+        assertEquals(new LaunchStats(3, 1, 1, 1), stats);
+        assertSame(stats, repository.getStats());
+        verify(delegate, never()).getStats();
+    }
+
+    @Test
+    void apply_ShouldFoldInsertModifyAndRemoveIntoSnapshot() {
+        // Given
+        successfulLaunch.setLaunchDateUtc("2020-05-30T19:22:00.000Z");
+        failedLaunch.setLaunchDateUtc("2006-03-24T22:30:00.000Z");
+        upcomingLaunch.setLaunchDateUtc("2030-01-01T00:00:00.000Z");
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch, upcomingLaunch));
+        repository.refresh();
+        InMemoryLaunchChangeFeed changeFeed = new InMemoryLaunchChangeFeed();
+        changeFeed.subscribe(repository::apply);
+
+        LaunchModel inserted = LaunchModel.builder().launchId("4").status("success").rocketId("falcon9")
+                .launchDateUtc("2010-06-04T18:45:00.000Z").build();
+        LaunchModel landed = LaunchModel.builder().launchId("3").status("success").rocketId("falcon9")
+                .launchDateUtc("2030-01-01T00:00:00.000Z").build();
+
+        // When
+        changeFeed.publish(
+                LaunchChange.upsert(LaunchChange.Type.INSERT, inserted),
+                LaunchChange.upsert(LaunchChange.Type.MODIFY, landed),
+                LaunchChange.remove("2"));
+
+        // Then
+        assertEquals(List.of(inserted, successfulLaunch, landed), repository.findAll());
+        assertEquals(Optional.of(landed), repository.findById("3"));
+        assertFalse(repository.findById("2").isPresent());
+        assertEquals(new LaunchStats(3, 3, 0, 0), repository.getStats());
+        assertEquals(List.of(inserted, successfulLaunch, landed), repository.findByRocketId("falcon9"));
+        assertEquals(3.0, meterRegistry.counter("launches.cache.changes.applied").count());
+        verify(delegate, times(1)).findAll();
+    }
+
+    @Test
+    void apply_BeforeFirstRefresh_ShouldBeIgnored() {
+        // Given
+        when(delegate.findAll()).thenReturn(List.of(successfulLaunch));
+
+        // When
+        repository.apply(List.of(LaunchChange.remove("1")));
+        repository.refresh();
+
+        // Then
+        assertEquals(List.of(successfulLaunch), repository.findAll());
+    }
+
+    @Test
+    void getDataVersion_ShouldDependOnlyOnContentAndTrackChanges() {
+        // Given
+        when(delegate.findAll()).thenReturn(List.of(successfulLaunch, failedLaunch));
+        repository.refresh();
+        CachingLaunchRepository otherInstance = new CachingLaunchRepository(
+                delegate, asyncDelegate, Duration.ofMinutes(15), new SimpleMeterRegistry());
+        otherInstance.refresh();
+        String initialVersion = repository.getDataVersion().orElseThrow();
+        String initialLaunchVersion = repository.getLaunchVersion("1").orElseThrow();
+
+        // When
+        LaunchModel renamedLaunch = LaunchModel.builder()
+                .launchId("1")
+                .missionName("Renamed Mission")
+                .status("success")
+                .rocketId("falcon9")
+                .build();
+        repository.apply(List.of(LaunchChange.upsert(LaunchChange.Type.MODIFY, renamedLaunch)));
+        String modifiedVersion = repository.getDataVersion().orElseThrow();
+        repository.apply(List.of(LaunchChange.upsert(LaunchChange.Type.MODIFY, successfulLaunch)));
+
+        // Then
+        assertEquals(initialVersion, otherInstance.getDataVersion().orElseThrow());
+        assertNotEquals(initialVersion, modifiedVersion);
+        assertEquals(initialVersion, repository.getDataVersion().orElseThrow());
+        assertEquals(initialLaunchVersion, repository.getLaunchVersion("1").orElseThrow());
+        assertNotEquals(initialLaunchVersion, repository.getLaunchVersion("2").orElseThrow());
+        assertEquals(Optional.empty(), repository.getLaunchVersion("99"));
+    }
+
+    @Test
+    void getDataVersion_BeforeFirstRefresh_ShouldDelegate() {
+        // Given
+        when(delegate.getDataVersion()).thenReturn(Optional.empty());
+
+        // When
+        Optional<String> result = repository.getDataVersion();
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(delegate).getDataVersion();
+    }
+
+    @Test
+    void refresh_WhenDelegateFails_ShouldKeepPreviousSnapshot() {
+        // Given
+        when(delegate.findAll())
+                .thenReturn(Arrays.asList(successfulLaunch, failedLaunch))
+                .thenThrow(new RuntimeException("DynamoDB unavailable"));
+        repository.refresh();
+
+        // When
+        assertThrows(RuntimeException.class, () -> repository.refresh());
+        List<LaunchModel> result = repository.findAll();
+
+        // Then
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void refresh_WhenDataChanges_ShouldPublishOnlyChangedAndRemovedLaunches() {
+        // Given
+        LaunchModel renamedLaunch = LaunchModel.builder()
+                .launchId("2")
+                .missionName("Renamed Mission")
+                .status("failed")
+                .rocketId("falcon1")
+                .build();
+        when(delegate.findAll())
+                .thenReturn(List.of(successfulLaunch, failedLaunch, upcomingLaunch))
+                .thenReturn(List.of(successfulLaunch, renamedLaunch))
+                .thenReturn(List.of(successfulLaunch, renamedLaunch));
+        List<LaunchUpdate> updates = new ArrayList<>();
+        repository.addUpdateListener(updates::add);
+
+        // When
+        repository.refresh();
+        repository.refresh();
+        repository.refresh();
+
+        // Then
+        assertEquals(1, updates.size());
+        LaunchUpdate update = updates.get(0);
+        assertEquals(List.of(renamedLaunch), update.upserted());
+        assertEquals(List.of("3"), update.removed());
+        assertEquals(new LaunchStats(2, 1, 1, 0), update.stats());
+        assertEquals(repository.getDataVersion().orElseThrow(), update.version());
+    }
+
+    @Test
+    void refresh_WhenChangesArriveDuringScan_ShouldKeepThemOverScannedData() throws Exception {
+        // Given
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findAll())
+                .thenReturn(List.of(successfulLaunch, failedLaunch))
+                .thenAnswer(invocation -> {
+                    scanning.countDown();
+                    release.await();
+                    return List.of(successfulLaunch, failedLaunch);
+                });
+        repository.refresh();
+        List<LaunchUpdate> updates = new ArrayList<>();
+        repository.addUpdateListener(updates::add);
+
+        // When
+        CompletableFuture<Void> refreshing = CompletableFuture.runAsync(repository::refresh);
+        assertTrue(scanning.await(5, TimeUnit.SECONDS));
+        repository.apply(List.of(LaunchChange.upsert(LaunchChange.Type.INSERT, upcomingLaunch), LaunchChange.remove("2")));
+        release.countDown();
+        refreshing.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(Optional.of(upcomingLaunch), repository.findById("3"));
+        assertFalse(repository.findById("2").isPresent());
+        assertEquals(new LaunchStats(2, 1, 0, 1), repository.getStats());
+        assertEquals(1, updates.size());
+        assertEquals(List.of(upcomingLaunch), updates.get(0).upserted());
+    }
+
+    @Test
+    void apply_ShouldPublishChangesEvenWhenAListenerFails() {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch));
+        repository.refresh();
+        List<LaunchUpdate> updates = new ArrayList<>();
+        repository.addUpdateListener(update -> {
+            throw new IllegalStateException("listener failure");
+        });
+        repository.addUpdateListener(updates::add);
+
+        // When
+        repository.apply(List.of(LaunchChange.upsert(LaunchChange.Type.INSERT, upcomingLaunch), LaunchChange.remove("2")));
+
+        // Then
+        assertEquals(1, updates.size());
+        assertEquals(List.of(upcomingLaunch), updates.get(0).upserted());
+        assertEquals(List.of("2"), updates.get(0).removed());
+        assertEquals(new LaunchStats(2, 1, 0, 1), updates.get(0).stats());
+    }
+
+    @Test
+    void apply_ShouldRunListenersAfterReleasingTheWriteLock() throws Exception {
+        // Given
+        when(delegate.findAll()).thenReturn(Arrays.asList(successfulLaunch, failedLaunch));
+        repository.refresh();
+        List<LaunchUpdate> updates = new CopyOnWriteArrayList<>();
+        repository.addUpdateListener(update -> {
+            updates.add(update);
+            if (updates.size() == 1) {
+                CompletableFuture.runAsync(() -> repository.apply(List.of(LaunchChange.remove("2")))).join();
+            }
+        });
+
+        // When
+        CompletableFuture.runAsync(() -> repository.apply(List.of(LaunchChange.upsert(LaunchChange.Type.INSERT, upcomingLaunch))))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(2, updates.size());
+        assertEquals(List.of(upcomingLaunch), updates.get(0).upserted());
+        assertEquals(List.of("2"), updates.get(1).removed());
+        assertEquals(repository.getDataVersion(), Optional.of(updates.get(1).version()));
+    }
+
+    @Test
+    void start_WithSavedSnapshotFile_ShouldServeItWhileFirstRefreshRunsInBackground(@TempDir Path directory) throws Exception {
+        // Given
+        LaunchSnapshotFile file = new LaunchSnapshotFile(directory.resolve("launches.snap"));
+        file.write(List.of(successfulLaunch, failedLaunch), Instant.now());
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findAll()).thenAnswer(invocation -> {
+            release.await();
+            return List.of(successfulLaunch, failedLaunch, upcomingLaunch);
+        });
+        CachingLaunchRepository fromFile = new CachingLaunchRepository(
+                delegate, asyncDelegate, Duration.ofMinutes(15), file, meterRegistry);
+        CompletableFuture<LaunchUpdate> refreshed = new CompletableFuture<>();
+        fromFile.addUpdateListener(refreshed::complete);
+
+        // When
+        fromFile.start();
+        List<LaunchModel> served = fromFile.findAll();
+        release.countDown();
+        LaunchUpdate update = refreshed.get(5, TimeUnit.SECONDS);
+        fromFile.stop();
+
+        // Then
+        assertEquals(2, served.size());
+        assertEquals(List.of(upcomingLaunch), update.upserted());
+        assertEquals(3, fromFile.findAll().size());
+        assertEquals(3, file.read().orElseThrow().launches().size());
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.exception.DatabaseOperationException;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchAsyncRepositoryPort;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingLaunchRepositoryTest {
+
+    @Mock
+    private LaunchRepositoryPort delegate;
+
+    @Mock
+    private LaunchAsyncRepositoryPort asyncDelegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingLaunchRepository repository;
+    private ExecutorService executor;
+
+    private LaunchModel launch;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CoalescingLaunchRepository(delegate, asyncDelegate, meterRegistry);
+        executor = Executors.newFixedThreadPool(2);
+        launch = LaunchModel.builder().launchId("1").missionName("Mission").status("success").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findAll_WhenCalledConcurrently_ShouldShareOneDelegateCall() throws Exception {
+        // Given
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<LaunchModel> launches = List.of(launch);
+        when(delegate.findAll()).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return launches;
+        });
+
+        // When
+        Future<List<LaunchModel>> leader = executor.submit(() -> repository.findAll());
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        Future<List<LaunchModel>> follower = executor.submit(() -> repository.findAll());
+        awaitCoalesced("findAll", 1.0);
+        release.countDown();
+
+        // Then
+        assertSame(launches, leader.get(5, TimeUnit.SECONDS));
+        assertSame(launches, follower.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(1)).findAll();
+    }
+
+    @Test
+    void findById_WhenLeaderFails_ShouldPropagateSameErrorToFollowers() throws Exception {
+        // Given
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DatabaseOperationException failure = new DatabaseOperationException("DynamoDB unavailable", new RuntimeException());
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        // When
+        Future<Optional<LaunchModel>> leader = executor.submit(() -> repository.findById("1"));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        Future<Optional<LaunchModel>> follower = executor.submit(() -> repository.findById("1"));
+        awaitCoalesced("findById", 1.0);
+        release.countDown();
+
+        // Then
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, followerError.getCause());
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    void findById_AfterPreviousCallCompleted_ShouldCallDelegateAgain() {
+        // Given
+        when(delegate.findById("1")).thenReturn(Optional.of(launch));
+
+        // When
+        repository.findById("1");
+        repository.findById("1");
+
+        // Then
+        verify(delegate, times(2)).findById("1");
+        assertEquals(0.0, meterRegistry.counter("launches.repository.coalesced", "operation", "findById").count());
+    }
+
+    @Test
+    void findById_WhenLeaderThrowsError_ShouldReleaseKeyForLaterCalls() {
+        // Given
+        StackOverflowError failure = new StackOverflowError();
+        when(delegate.findById("1")).thenThrow(failure).thenReturn(Optional.of(launch));
+
+        // When
+        StackOverflowError thrown = assertThrows(StackOverflowError.class, () -> repository.findById("1"));
+        Optional<LaunchModel> result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> repository.findById("1"));
+
+        // Then
+        assertSame(failure, thrown);
+        assertEquals(Optional.of(launch), result);
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    void findByStatusAsync_WhenReadThrowsError_ShouldReleaseKeyForLaterCalls() {
+        // Given
+        when(asyncDelegate.findByStatusAsync("success", LaunchField.SUMMARY))
+                .thenThrow(new OutOfMemoryError("test"))
+                .thenReturn(CompletableFuture.completedFuture(List.of(launch)));
+
+        // When
+        assertThrows(OutOfMemoryError.class, () -> repository.findByStatusAsync("success", LaunchField.SUMMARY));
+        CompletableFuture<List<LaunchModel>> second = repository.findByStatusAsync("success", LaunchField.SUMMARY);
+
+        // Then
+        assertEquals(List.of(launch), second.join());
+        verify(asyncDelegate, times(2)).findByStatusAsync("success", LaunchField.SUMMARY);
+    }
+
+    @Test
+    void findByStatusAsync_WhileRequestIsInFlight_ShouldReuseIt() {
+        // Given
+        CompletableFuture<List<LaunchModel>> pending = new CompletableFuture<>();
+        when(asyncDelegate.findByStatusAsync("success", LaunchField.SUMMARY)).thenReturn(pending);
+
+        // When
+        CompletableFuture<List<LaunchModel>> first = repository.findByStatusAsync("success", LaunchField.SUMMARY);
+        CompletableFuture<List<LaunchModel>> second = repository.findByStatusAsync("success", LaunchField.SUMMARY);
+        pending.complete(List.of(launch));
+
+        // Then
+        assertEquals(List.of(launch), first.join());
+        assertEquals(List.of(launch), second.join());
+        verify(asyncDelegate, times(1)).findByStatusAsync("success", LaunchField.SUMMARY);
+        assertEquals(1.0, meterRegistry.counter("launches.repository.coalesced", "operation", "findByStatus").count());
+    }
+
+    @Test
+    void findByStatusAsync_WithDifferentProjections_ShouldNotShareRequests() {
+        // Given
+        when(asyncDelegate.findByStatusAsync(eq("success"), any())).thenReturn(new CompletableFuture<>());
+
+        // When
+        repository.findByStatusAsync("success", LaunchField.SUMMARY);
+        repository.findByStatusAsync("success", LaunchField.ALL);
+
+        // Then
+        verify(asyncDelegate).findByStatusAsync("success", LaunchField.SUMMARY);
+        verify(asyncDelegate).findByStatusAsync("success", LaunchField.ALL);
+    }
+
+    private void awaitCoalesced(String operation, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("launches.repository.coalesced", "operation", operation).count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
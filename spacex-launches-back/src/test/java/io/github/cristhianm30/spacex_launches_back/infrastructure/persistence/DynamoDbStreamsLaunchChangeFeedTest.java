@@ -0,0 +1,135 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchChange;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetShardIteratorRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetShardIteratorResponse;
+import software.amazon.awssdk.services.dynamodb.model.OperationType;
+import software.amazon.awssdk.services.dynamodb.model.Record;
+import software.amazon.awssdk.services.dynamodb.model.Shard;
+import software.amazon.awssdk.services.dynamodb.model.ShardIteratorType;
+import software.amazon.awssdk.services.dynamodb.model.TrimmedDataAccessException;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DynamoDbStreamsLaunchChangeFeedTest {
+
+    private static final String STREAM_ARN = "arn:stream";
+
+    private DynamoDbClient dynamoDbClient;
+    private DynamoDbStreamsClient streamsClient;
+    private DynamoDbStreamsLaunchChangeFeed feed;
+    private final List<List<LaunchChange>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // The request-builder overloads are default methods, so they are left real and the request overloads stubbed.
+        dynamoDbClient = mock(DynamoDbClient.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        streamsClient = mock(DynamoDbStreamsClient.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        doReturn(DescribeTableResponse.builder().table(table -> table.latestStreamArn(STREAM_ARN)).build())
+                .when(dynamoDbClient).describeTable(any(DescribeTableRequest.class));
+        doReturn(DescribeStreamResponse.builder().streamDescription(stream -> stream.shards(shard("s1"), shard("s2"))).build())
+                .when(streamsClient).describeStream(any(DescribeStreamRequest.class));
+        doAnswer(invocation -> {
+            GetShardIteratorRequest request = invocation.getArgument(0);
+            return GetShardIteratorResponse.builder()
+                    .shardIterator(request.shardId() + "-" + request.shardIteratorTypeAsString())
+                    .build();
+        }).when(streamsClient).getShardIterator(any(GetShardIteratorRequest.class));
+
+        feed = new DynamoDbStreamsLaunchChangeFeed(dynamoDbClient, streamsClient, mock(LaunchEntityMapper.class),
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+        feed.subscribe(batches::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    void poll_WhenLaterShardFails_ShouldKeepEarlierShardChangesAndRetryFailedShard() {
+        // Given
+        stubRecords("s1-LATEST", "s1-next", remove("1"));
+        doThrow(DynamoDbException.builder().message("throttled").build())
+                .doReturn(records("s2-next", remove("2")))
+                .when(streamsClient).getRecords(request("s2-LATEST"));
+        stubRecords("s1-next", "s1-next");
+
+        // When
+        assertThrows(DynamoDbException.class, feed::poll);
+        feed.poll();
+
+        // Then
+        assertEquals(List.of(List.of(LaunchChange.remove("1")), List.of(LaunchChange.remove("2"))), batches);
+        verify(streamsClient, times(2)).getRecords(request("s2-LATEST"));
+        verify(streamsClient).getRecords(request("s1-next"));
+    }
+
+    @Test
+    void poll_WhenShardRecordsAreTrimmed_ShouldResumeFromLatestAndReportLostChanges() {
+        // Given
+        AtomicInteger lost = new AtomicInteger();
+        feed.onChangesLost(lost::incrementAndGet);
+        stubRecords("s1-LATEST", "s1-next");
+        doThrow(TrimmedDataAccessException.builder().message("trimmed").build())
+                .when(streamsClient).getRecords(request("s2-LATEST"));
+
+        // When
+        feed.poll();
+
+        // Then
+        assertEquals(1, lost.get());
+        assertTrue(batches.isEmpty());
+        verify(streamsClient, times(2)).getShardIterator(argThat((GetShardIteratorRequest request) ->
+                request.shardId().equals("s2") && request.shardIteratorType() == ShardIteratorType.LATEST));
+    }
+
+    private void stubRecords(String iterator, String nextIterator, Record... records) {
+        doReturn(records(nextIterator, records)).when(streamsClient).getRecords(request(iterator));
+    }
+
+    private static GetRecordsRequest request(String iterator) {
+        return argThat(request -> request != null && iterator.equals(request.shardIterator()));
+    }
+
+    private static GetRecordsResponse records(String nextIterator, Record... records) {
+        return GetRecordsResponse.builder().records(records).nextShardIterator(nextIterator).build();
+    }
+
+    private static Record remove(String launchId) {
+        return Record.builder()
+                .eventName(OperationType.REMOVE)
+                .dynamodb(data -> data.keys(Map.of(DatabaseConstants.ATTR_LAUNCH_ID, AttributeValue.fromS(launchId))))
+                .build();
+    }
+
+    private static Shard shard(String shardId) {
+        return Shard.builder()
+                .shardId(shardId)
+                .sequenceNumberRange(range -> range.startingSequenceNumber("1"))
+                .build();
+    }
+}
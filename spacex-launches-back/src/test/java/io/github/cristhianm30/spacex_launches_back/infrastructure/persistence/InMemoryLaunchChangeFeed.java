@@ -0,0 +1,27 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchChange;
+import io.github.cristhianm30.spacex_launches_back.domain.port.out.LaunchChangeFeedPort;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+class InMemoryLaunchChangeFeed implements LaunchChangeFeedPort {
+
+    private final List<Consumer<List<LaunchChange>>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(Consumer<List<LaunchChange>> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onChangesLost(Runnable listener) {
+    }
+
+    void publish(LaunchChange... changes) {
+        List<LaunchChange> batch = List.of(changes);
+        listeners.forEach(listener -> listener.accept(batch));
+    }
+}
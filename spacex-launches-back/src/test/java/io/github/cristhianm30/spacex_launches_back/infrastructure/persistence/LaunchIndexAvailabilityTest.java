@@ -0,0 +1,74 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchIndexAvailabilityTest {
+
+    private static final String INDEX = DatabaseConstants.STATUS_INDEX;
+
+    private final AtomicLong now = new AtomicLong();
+    private final LaunchIndexAvailability availability = new LaunchIndexAvailability(Duration.ofMinutes(5), now::get);
+
+    @Test
+    void markIfMissing_WithMissingIndexError_ShouldMarkIndexUnavailable() {
+        // When
+        boolean marked = availability.markIfMissing(INDEX,
+                new CompletionException(error("ValidationException", "The table does not have the specified index: " + INDEX)));
+
+        // Then
+        assertTrue(marked);
+        assertFalse(availability.isAvailable(INDEX));
+        assertTrue(availability.isAvailable(DatabaseConstants.ROCKET_ID_INDEX));
+    }
+
+    @Test
+    void markIfMissing_WithMissingTableOrOtherValidationError_ShouldNotMarkIndex() {
+        // Given
+        DynamoDbException missingTable = ResourceNotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("ResourceNotFoundException")
+                        .errorMessage("Requested resource not found")
+                        .build())
+                .build();
+        DynamoDbException badKey = error("ValidationException",
+                "Query condition missed key schema element: status on index " + INDEX);
+
+        // When / Then
+        assertFalse(availability.markIfMissing(INDEX, missingTable));
+        assertFalse(availability.markIfMissing(INDEX, badKey));
+        assertFalse(availability.markIfMissing(INDEX, new IllegalStateException("index")));
+        assertTrue(availability.isAvailable(INDEX));
+    }
+
+    @Test
+    void isAvailable_AfterRetryWindow_ShouldTryIndexAgain() {
+        // Given
+        availability.markIfMissing(INDEX, error("ValidationException", "The table does not have the specified index: " + INDEX));
+
+        // When
+        now.addAndGet(Duration.ofMinutes(5).toNanos() - 1);
+        boolean beforeExpiry = availability.isAvailable(INDEX);
+        now.incrementAndGet();
+        boolean afterExpiry = availability.isAvailable(INDEX);
+
+        // Then
+        assertFalse(beforeExpiry);
+        assertTrue(afterExpiry);
+    }
+
+    private static DynamoDbException error(String code, String message) {
+        return (DynamoDbException) DynamoDbException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(code).errorMessage(message).build())
+                .build();
+    }
+}
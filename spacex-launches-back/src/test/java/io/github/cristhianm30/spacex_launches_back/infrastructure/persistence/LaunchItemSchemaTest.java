@@ -0,0 +1,98 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchField;
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import io.github.cristhianm30.spacex_launches_back.domain.util.constant.DatabaseConstants;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.entity.LaunchEntity;
+import io.github.cristhianm30.spacex_launches_back.infrastructure.mapper.LaunchEntityMapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchItemSchemaTest {
+
+    private final LaunchEntityMapper mapper = Mappers.getMapper(LaunchEntityMapper.class);
+    private final TableSchema<LaunchEntity> entitySchema = TableSchema.fromBean(LaunchEntity.class);
+    private final LaunchItemSchema schema = new LaunchItemSchema(mapper);
+
+    private final LaunchModel launch = LaunchModel.builder()
+            .launchId("5eb87cd9ffd86e000604b32a")
+            .missionName("FalconSat")
+            .flightNumber(1)
+            .launchDateUtc("2006-03-24T22:30:00.000Z")
+            .success(false)
+            .details("Engine failure at 33 seconds")
+            .rocketId("5e9d0d95eda69955f709d1eb")
+            .launchpadId("5e9e4502f5090995de566f86")
+            .payloads(List.of("5eb0e4b5b6c3bb0006eeb1e1", "5eb0e4b6b6c3bb0006eeb1e2"))
+            .patchSmallLink("https://images2.imgbox.com/94/f2/NN6Ph45r_o.png")
+            .webcastLink("https://www.youtube.com/watch?v=0a_00nJ_Y88")
+            .status("failed")
+            .build();
+
+    @Test
+    void mapToItem_ShouldMatchEntityMapping() {
+        // Given
+        Map<String, AttributeValue> item = entitySchema.itemToMap(mapper.toEntity(launch), true);
+
+        // When
+        LaunchModel mapped = schema.mapToItem(item);
+
+        // Then
+        assertEquals(launch, mapped);
+        assertEquals(mapper.toDomain(entitySchema.mapToItem(item)), mapped);
+    }
+
+    @Test
+    void mapToItem_WithProjectedOrNullAttributes_ShouldLeaveThemNull() {
+        // Given
+        Map<String, AttributeValue> item = new HashMap<>(entitySchema.itemToMap(mapper.toEntity(launch),
+                List.of(LaunchProjection.attributeOf(LaunchField.LAUNCH_ID), LaunchProjection.attributeOf(LaunchField.STATUS))));
+        item.put(DatabaseConstants.ATTR_DETAILS, AttributeValue.fromNul(true));
+
+        // When
+        LaunchModel mapped = schema.mapToItem(item);
+
+        // Then
+        assertEquals(LaunchModel.builder().launchId(launch.getLaunchId()).status("failed").build(), mapped);
+        assertEquals(mapper.toDomain(entitySchema.mapToItem(item)), mapped);
+    }
+
+    @Test
+    void itemToMapAndMetadata_ShouldMatchEntitySchema() {
+        // When / Then
+        assertEquals(entitySchema.itemToMap(mapper.toEntity(launch), true), schema.itemToMap(launch, true));
+        assertEquals(entitySchema.attributeNames(), schema.attributeNames());
+        assertEquals(entitySchema.tableMetadata().indexPartitionKey(DatabaseConstants.STATUS_INDEX),
+                schema.tableMetadata().indexPartitionKey(DatabaseConstants.STATUS_INDEX));
+    }
+
+    @Test
+    void itemToMap_WithNullLaunchDate_ShouldKeepEverySecondaryIndexKey() {
+        // Given
+        LaunchModel undated = LaunchModel.builder()
+                .launchId("62dd70d5202306255024d139")
+                .missionName("Crew-5")
+                .rocketId("5e9d0d95eda69973a809d1ec")
+                .status("upcoming")
+                .build();
+
+        // When
+        Map<String, AttributeValue> item = schema.itemToMap(undated, true);
+
+        // Then
+        assertFalse(item.containsKey(DatabaseConstants.ATTR_LAUNCH_DATE_UTC));
+        for (String index : List.of(DatabaseConstants.STATUS_INDEX, DatabaseConstants.ROCKET_ID_INDEX)) {
+            for (String key : schema.tableMetadata().indexKeys(index)) {
+                assertTrue(item.containsKey(key), index + " is missing " + key);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.cristhianm30.spacex_launches_back.infrastructure.persistence;
+
+import io.github.cristhianm30.spacex_launches_back.domain.model.LaunchModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaunchSnapshotFileTest {
+
+    @TempDir
+    private Path directory;
+
+    private final List<LaunchModel> launches = List.of(
+            LaunchModel.builder()
+                    .launchId("1")
+                    .missionName("Misión Ñandú")
+                    .flightNumber(1)
+                    .launchDateUtc("2006-03-24T22:30:00.000Z")
+                    .success(false)
+                    .details("Engine failure at 33 seconds")
+                    .rocketId("falcon1")
+                    .launchpadId("kwajalein")
+                    .payloads(List.of("FalconSAT-2"))
+                    .patchSmallLink("https://images2.imgbox.com/1.png")
+                    .patchLargeLink("https://images2.imgbox.com/1-large.png")
+                    .webcastLink("https://www.youtube.com/watch?v=0a_00nJ_Y88")
+                    .articleLink("https://www.space.com/2196-spacex-inaugural-falcon-1-rocket-lost-launch.html")
+                    .wikipediaLink("https://en.wikipedia.org/wiki/DemoSat")
+                    .status("failed")
+                    .build(),
+            LaunchModel.builder()
+                    .launchId("2")
+                    .missionName("Crew-9")
+                    .launchDateUtc("soon")
+                    .rocketId("falcon1")
+                    .payloads(List.of())
+                    .status("upcoming")
+                    .build(),
+            LaunchModel.builder().launchId("3").success(true).build());
+
+    @Test
+    void write_ThenRead_ShouldRestoreEveryLaunchExactly() throws IOException {
+        // Given
+        LaunchSnapshotFile file = new LaunchSnapshotFile(directory.resolve("cache").resolve("launches.snap"));
+        Instant writtenAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        // When
+        file.write(launches, writtenAt);
+        LaunchSnapshotFile.Contents contents = file.read().orElseThrow();
+
+        // Then
+        assertEquals(launches, contents.launches());
+        assertEquals(writtenAt, contents.writtenAt());
+    }
+
+    @Test
+    void read_WhenFileIsMissing_ShouldReturnEmpty() throws IOException {
+        // When / Then
+        assertTrue(new LaunchSnapshotFile(directory.resolve("missing.snap")).read().isEmpty());
+    }
+
+    @Test
+    void read_WhenFileIsCorruptedOrTruncated_ShouldThrow() throws IOException {
+        // Given
+        Path path = directory.resolve("launches.snap");
+        LaunchSnapshotFile file = new LaunchSnapshotFile(path);
+        file.write(launches, Instant.now());
+        byte[] bytes = Files.readAllBytes(path);
+
+        // When
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        // Then
+        assertThrows(IOException.class, file::read);
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, file::read);
+    }
+}
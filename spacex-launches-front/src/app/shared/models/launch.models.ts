@@ -53,6 +53,19 @@ export interface Page<T> {
 
 export interface LaunchPageResponse extends Page<LaunchSummaryResponse> {}
 
+// Query parameters for /launches/search
+export interface LaunchSearchParams {
+  status?: string;
+  rocketId?: string;
+  launchpadId?: string;
+  minFlightNumber?: number;
+  maxFlightNumber?: number;
+  from?: string;
+  to?: string;
+  sort?: 'launchDateUtc' | '-launchDateUtc' | 'flightNumber' | '-flightNumber';
+  limit?: number;
+}
+
 // API Response wrapper (if needed)
 export interface ApiResponse<T> {
   data: T;
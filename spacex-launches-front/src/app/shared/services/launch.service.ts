@@ -2,7 +2,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient, HttpErrorResponse, HttpParams } from '@angular/common/http';
 import { Observable, throwError, forkJoin } from 'rxjs';
 import { catchError, map, switchMap, retry } from 'rxjs/operators';
-import { LaunchSummaryResponse, LaunchResponse, StatsDataResponse, LaunchPageResponse } from '../models/launch.models';
+import { LaunchSummaryResponse, LaunchResponse, StatsDataResponse, LaunchPageResponse, LaunchSearchParams } from '../models/launch.models';
 import { environment } from '../../../environments/environment';
 
 @Injectable({
@@ -34,27 +34,66 @@ export class LaunchService {
   }
 
   /**
-   * Get recent launches (last 10)
+   * Search launches with server-side filtering, sorting and limit
    */
-  getRecentLaunches(limit: number = 10): Observable<LaunchSummaryResponse[]> {
-    return this.getAllLaunches().pipe(
-      map(launches => launches
-        .sort((a, b) => new Date(b.launchDateUtc).getTime() - new Date(a.launchDateUtc).getTime())
-        .slice(0, limit)
-      )
-    );
+  searchLaunches(criteria: LaunchSearchParams): Observable<LaunchSummaryResponse[]> {
+    let params = new HttpParams();
+    Object.entries(criteria)
+      .filter(([, value]) => value !== undefined && value !== null)
+      .forEach(([key, value]) => params = params.set(key, String(value)));
+
+    return this.http.get<LaunchSummaryResponse[]>(`${this.baseUrl}/launches/search`, { params })
+      .pipe(
+        catchError(this.handleError)
+      );
   }
 
   /**
-   * Get upcoming launches
+   * Full-text search over mission names and details, ranked by relevance
    */
-  getUpcomingLaunches(): Observable<LaunchSummaryResponse[]> {
-    return this.getAllLaunches().pipe(
-      map(launches => launches
-        .filter(launch => launch.status === 'UPCOMING')
-        .sort((a, b) => new Date(a.launchDateUtc).getTime() - new Date(b.launchDateUtc).getTime())
-      )
-    );
+  searchLaunchesByText(q: string, limit?: number): Observable<LaunchSummaryResponse[]> {
+    let params = new HttpParams().set('q', q);
+    if (limit !== undefined) {
+      params = params.set('limit', String(limit));
+    }
+
+    return this.http.get<LaunchSummaryResponse[]>(`${this.baseUrl}/launches/search/text`, { params })
+      .pipe(
+        catchError(this.handleError)
+      );
+  }
+
+  /**
+   * Next launches dated after now, closest first
+   */
+  getUpcomingLaunches(limit?: number): Observable<LaunchSummaryResponse[]> {
+    return this.getTimeline('upcoming', limit);
+  }
+
+  /**
+   * Last launches dated before now, most recent first
+   */
+  getLatestLaunches(limit?: number): Observable<LaunchSummaryResponse[]> {
+    return this.getTimeline('latest', limit);
+  }
+
+  private getTimeline(path: 'upcoming' | 'latest', limit?: number): Observable<LaunchSummaryResponse[]> {
+    let params = new HttpParams();
+    if (limit !== undefined) {
+      params = params.set('limit', String(limit));
+    }
+
+    return this.http.get<LaunchSummaryResponse[]>(`${this.baseUrl}/launches/${path}`, { params })
+      .pipe(
+        catchError(this.handleError)
+      );
+  }
+
+  /**
+   * Get recent launches (last 10)
+   */
+  getRecentLaunches(limit: number = 10): Observable<LaunchSummaryResponse[]> {
+    return this.searchLaunches({ sort: '-launchDateUtc', limit });
   }
 
   /**